@@ -0,0 +1,58 @@
+package com.example.project;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch scoring of seven-card hands from flat int[] and packed long[] arrays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+    static final int HANDS = 4096;
+
+    int[] cards = new int[HANDS * BatchEvaluator.CARDS_PER_HAND];
+    long[] packed = new long[HANDS];
+    int[] strengths = new int[HANDS];
+
+    @Setup
+    public void setup() {
+        Deck deck = new Deck(1L);
+        for (int hand = 0; hand < HANDS; hand++) {
+            deck.reset();
+            deck.partialShuffle(BatchEvaluator.CARDS_PER_HAND);
+            for (int i = 0; i < BatchEvaluator.CARDS_PER_HAND; i++) {
+                cards[hand * BatchEvaluator.CARDS_PER_HAND + i] = deck.dealCode();
+            }
+            packed[hand] = BatchEvaluator.pack(cards, hand * BatchEvaluator.CARDS_PER_HAND);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] intCodes() {
+        BatchEvaluator.evaluate(cards, 0, strengths, 0, HANDS);
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] packedLongs() {
+        BatchEvaluator.evaluate(packed, 0, strengths, 0, HANDS);
+        return strengths;
+    }
+}
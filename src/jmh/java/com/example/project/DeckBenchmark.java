@@ -0,0 +1,54 @@
+package com.example.project;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Shuffling and dealing: a full reshuffle against the partial shuffle a hand actually needs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    Deck deck;
+
+    @Setup
+    public void setup() {
+        deck = new Deck(1L);
+    }
+
+    @Benchmark
+    public void reshuffleAndDealNine(Blackhole blackhole) {
+        deck.reshuffle();
+        for (int i = 0; i < 9; i++) {
+            blackhole.consume(deck.dealCode());
+        }
+    }
+
+    @Benchmark
+    public void partialShuffleAndDealNine(Blackhole blackhole) {
+        deck.reset();
+        deck.partialShuffle(9);
+        for (int i = 0; i < 9; i++) {
+            blackhole.consume(deck.dealCode());
+        }
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck(deck.getRandom());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Hand evaluation of 5, 6 and 7 cards: the primitive evaluator and the mapped RankTable
+ * against Player.playHand.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluatorBenchmark {
+    static final int HANDS = 1024;
+
+    @Param({"5", "6", "7"})
+    int cardCount;
+
+    int[] cards;
+    ArrayList<ArrayList<Card>> holeLists;
+    ArrayList<ArrayList<Card>> boardLists;
+    Player player;
+    RankTable rankTable;
+
+    @Setup
+    public void setup() throws IOException {
+        Deck deck = new Deck(1L);
+        cards = new int[HANDS * cardCount];
+        holeLists = new ArrayList<>();
+        boardLists = new ArrayList<>();
+        for (int hand = 0; hand < HANDS; hand++) {
+            deck.reset();
+            deck.partialShuffle(cardCount);
+            ArrayList<Card> hole = new ArrayList<>();
+            ArrayList<Card> board = new ArrayList<>();
+            for (int i = 0; i < cardCount; i++) {
+                int code = deck.dealCode();
+                cards[hand * cardCount + i] = code;
+                (i < 2 ? hole : board).add(Card.of(code));
+            }
+            holeLists.add(hole);
+            boardLists.add(board);
+        }
+        player = new Player();
+
+        Path file = Files.createTempFile("ranks", ".bin");
+        file.toFile().deleteOnExit();
+        RankTable.generate(file);
+        rankTable = RankTable.load(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void evaluateCodes(Blackhole blackhole) {
+        for (int hand = 0; hand < HANDS; hand++) {
+            blackhole.consume(HandEvaluator.evaluate(cards, hand * cardCount, cardCount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void rankTable(Blackhole blackhole) {
+        for (int hand = 0; hand < HANDS; hand++) {
+            blackhole.consume(rankTable.evaluate(cards, hand * cardCount, cardCount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void playHand(Blackhole blackhole) {
+        for (int hand = 0; hand < HANDS; hand++) {
+            player.getHand().clear();
+            player.getHand().addAll(holeLists.get(hand));
+            blackhole.consume(player.playHand(boardLists.get(hand)));
+        }
+    }
+}
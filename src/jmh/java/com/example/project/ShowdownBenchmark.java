@@ -0,0 +1,100 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Showdowns: the two-player Game.determineWinner path, the N-player primitive Showdown,
+ * and complete Game.play rounds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShowdownBenchmark {
+    /**
+     * A table of the given size; only the N-player benchmark depends on players.
+     */
+    @State(Scope.Thread)
+    public static class Table {
+        @Param({"2", "6", "10"})
+        int players;
+
+        Deck deck;
+        int[] hole;
+        int[] board;
+        ShowdownResult result;
+
+        @Setup
+        public void setup() {
+            deck = new Deck(1L);
+            hole = new int[2 * players];
+            board = new int[5];
+            result = new ShowdownResult();
+        }
+    }
+
+    /**
+     * Two players and a board for the Game paths, which always seat two.
+     */
+    @State(Scope.Thread)
+    public static class HeadsUp {
+        Deck deck;
+        Player player1;
+        Player player2;
+        ArrayList<Card> communityCards;
+
+        @Setup
+        public void setup() {
+            deck = new Deck(1L);
+            player1 = new Player();
+            player2 = new Player();
+            communityCards = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                player1.addCard(deck.dealCard());
+                player2.addCard(deck.dealCard());
+            }
+            for (int i = 0; i < 5; i++) {
+                communityCards.add(deck.dealCard());
+            }
+        }
+    }
+
+    @Benchmark
+    public int showdown(Table table) {
+        table.deck.reset();
+        table.deck.partialShuffle(2 * table.players + 5);
+        for (int i = 0; i < table.hole.length; i++) {
+            table.hole[i] = table.deck.dealCode();
+        }
+        for (int i = 0; i < 5; i++) {
+            table.board[i] = table.deck.dealCode();
+        }
+        Showdown.evaluate(table.hole, table.players, table.board, 5, table.result);
+        return table.result.getWinnerMask();
+    }
+
+    @Benchmark
+    public String determineWinnerTwoPlayers(HeadsUp headsUp) {
+        String p1Hand = headsUp.player1.playHand(headsUp.communityCards);
+        String p2Hand = headsUp.player2.playHand(headsUp.communityCards);
+        return Game.determineWinner(headsUp.player1, headsUp.player2, p1Hand, p2Hand, headsUp.communityCards);
+    }
+
+    @Benchmark
+    public String playRound(HeadsUp headsUp) {
+        return Game.play(headsUp.deck);
+    }
+}
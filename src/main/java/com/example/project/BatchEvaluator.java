@@ -0,0 +1,88 @@
+package com.example.project;
+
+/**
+ * Evaluates many seven-card hands per call, reading card codes from flat arrays and
+ * writing strengths into a caller-supplied int[]. Nothing is allocated per hand.
+ *
+ * Two input layouts are supported: seven int codes per hand, or one long per hand
+ * holding seven 6-bit codes (card i in bits 6 * i .. 6 * i + 5).
+ */
+public class BatchEvaluator {
+    public static final int CARDS_PER_HAND = 7;
+    private static final int CODE_BITS = 6;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+
+    /**
+     * Evaluates hands stored as seven consecutive int codes each.
+     * @param cards The card codes.
+     * @param offset Index of the first card of the first hand.
+     * @param strengths Receives one strength per hand.
+     * @param outOffset Index of the first strength to write.
+     * @param count Number of hands.
+     */
+    public static void evaluate(int[] cards, int offset, int[] strengths, int outOffset, int count) {
+        checkRange(cards.length, offset, count * CARDS_PER_HAND);
+        checkRange(strengths.length, outOffset, count);
+        for (int hand = 0; hand < count; hand++) {
+            int i = offset + hand * CARDS_PER_HAND;
+            long suits = HandEvaluator.suitBit(cards[i]) | HandEvaluator.suitBit(cards[i + 1])
+                    | HandEvaluator.suitBit(cards[i + 2]) | HandEvaluator.suitBit(cards[i + 3])
+                    | HandEvaluator.suitBit(cards[i + 4]) | HandEvaluator.suitBit(cards[i + 5])
+                    | HandEvaluator.suitBit(cards[i + 6]);
+            strengths[outOffset + hand] = HandEvaluator.evaluateSuitMask(suits);
+        }
+        Metrics.recorder().evaluations(count);
+    }
+
+    /**
+     * Evaluates hands packed as seven 6-bit codes per long (see pack).
+     * @param hands The packed hands.
+     * @param offset Index of the first hand.
+     * @param strengths Receives one strength per hand.
+     * @param outOffset Index of the first strength to write.
+     * @param count Number of hands.
+     */
+    public static void evaluate(long[] hands, int offset, int[] strengths, int outOffset, int count) {
+        checkRange(hands.length, offset, count);
+        checkRange(strengths.length, outOffset, count);
+        for (int hand = 0; hand < count; hand++) {
+            long packed = hands[offset + hand];
+            long suits = 0;
+            for (int card = 0; card < CARDS_PER_HAND; card++) {
+                suits |= HandEvaluator.suitBit((int) (packed >>> (card * CODE_BITS) & CODE_MASK));
+            }
+            strengths[outOffset + hand] = HandEvaluator.evaluateSuitMask(suits);
+        }
+        Metrics.recorder().evaluations(count);
+    }
+
+    /**
+     * Packs seven card codes into one long.
+     * @param cards The card codes.
+     * @param offset Index of the first card.
+     * @return The packed hand.
+     */
+    public static long pack(int[] cards, int offset) {
+        long packed = 0;
+        for (int card = 0; card < CARDS_PER_HAND; card++) {
+            packed |= (long) cards[offset + card] << (card * CODE_BITS);
+        }
+        return packed;
+    }
+
+    /**
+     * Reads one card code back out of a packed hand.
+     * @param hand The packed hand.
+     * @param position Card position (0..6).
+     * @return The card code.
+     */
+    public static int unpack(long hand, int position) {
+        return (int) (hand >>> (position * CODE_BITS) & CODE_MASK);
+    }
+
+    private static void checkRange(int length, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > length) {
+            throw new IndexOutOfBoundsException("Range " + offset + " + " + count + " exceeds length " + length);
+        }
+    }
+}
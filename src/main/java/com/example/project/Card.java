@@ -2,24 +2,88 @@ package com.example.project;
 import java.util.ArrayList;
 
 public class Card{
-    private String rank;
-    private String suit;
+    // Every card is encoded as rankIndex * 4 + suitIndex (0..51), so rank and suit are just bit slices
+    private static final Card[] CARDS = new Card[52];
+    static {
+        for (int code = 0; code < CARDS.length; code++) {
+            CARDS[code] = new Card(code);
+        }
+    }
+
+    private final int code;
 
     public Card(String rank, String suit){
-        this.rank = rank;
-        this.suit = suit;
+        this(encode(rank, suit));
+    }
+
+    private Card(int code){
+        this.code = code;
+    }
+
+    /**
+     * Returns the shared instance for an encoded card.
+     * @param code The card code (0..51).
+     * @return The cached card.
+     */
+    public static Card of(int code){
+        return CARDS[code];
+    }
+
+    /**
+     * Returns the shared instance for a rank and suit.
+     * @param rank The rank string, e.g. "10" or "A".
+     * @param suit The suit string, e.g. "♠".
+     * @return The cached card.
+     */
+    public static Card of(String rank, String suit){
+        return CARDS[encode(rank, suit)];
+    }
+
+    /**
+     * Converts a rank and suit into the compact 0..51 card code.
+     * @param rank The rank string.
+     * @param suit The suit string.
+     * @return The card code.
+     */
+    public static int encode(String rank, String suit){
+        int rankIndex = Utility.getRankIndex(rank);
+        int suitIndex = Utility.getSuitIndex(suit);
+        if (rankIndex < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Invalid card: " + rank + " of " + suit);
+        }
+        return rankIndex * 4 + suitIndex;
     }
 
-    public String getRank(){return rank;}
-    public String getSuit(){return suit;}
+    // Rank index (0 = "2" ... 12 = "A") of an encoded card
+    public static int rankOf(int code){return code >> 2;}
+    // Suit index (position in Utility.getSuits()) of an encoded card
+    public static int suitOf(int code){return code & 3;}
+
+    public int getCode(){return code;}
+    public int getRankIndex(){return code >> 2;}
+    public int getSuitIndex(){return code & 3;}
+    public long getMask(){return 1L << code;}
+
+    public String getRank(){return Utility.getRanks()[code >> 2];}
+    public String getSuit(){return Utility.getSuits()[code & 3];}
 
     public int getRankValue() {
-        return Utility.getRankValue(rank);  // Convert rank to int using Utility
+        return (code >> 2) + 2;  // Rank index 0 is a "2"
+    }
+
+    @Override
+    public boolean equals(Object o){
+        return o instanceof Card && ((Card) o).code == code;
+    }
+
+    @Override
+    public int hashCode(){
+        return code;
     }
     
     @Override
     public String toString(){
-        return rank + " of " + suit;
+        return getRank() + " of " + getSuit();
     }
 
-}
\ No newline at end of file
+}
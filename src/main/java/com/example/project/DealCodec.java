@@ -0,0 +1,273 @@
+package com.example.project;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * Compact binary encoding of deals, decks and results, read and written directly on a
+ * ByteBuffer (heap, direct or memory-mapped) without intermediate arrays or strings.
+ *
+ * Cards take 6 bits each (the card code), packed most significant bit first and padded with
+ * zeros to a whole byte. A deal is one header byte, players << 3 | board count, followed by
+ * the packed hole cards (two per player) and board cards, so a 10-player deal with a full
+ * board needs 20 bytes. Counts and strengths are unsigned LEB128 varints: 7 bits per byte,
+ * low bits first, with the high bit set on every byte but the last.
+ */
+public class DealCodec {
+    public static final int MAX_DEAL_SIZE = dealSize(Showdown.MAX_PLAYERS, 5);
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+
+    private DealCodec() {}
+
+    /**
+     * Number of bytes taken by a deal.
+     * @param players Number of players.
+     * @param boardCount Number of board cards.
+     * @return The deal's size in bytes.
+     */
+    public static int dealSize(int players, int boardCount) {
+        return 1 + packedSize(2 * players + boardCount);
+    }
+
+    // Bytes taken by count packed cards
+    private static int packedSize(int count) {
+        return (count * CARD_BITS + 7) / 8;
+    }
+
+    // The fields of a deal header
+    public static int players(int header) {return (header & 0xFF) >>> 3;}
+    public static int boardCount(int header) {return header & 7;}
+
+    /**
+     * @param header A deal's first byte.
+     * @return True if the header describes 2 to 10 players and up to 5 board cards.
+     */
+    public static boolean isValidHeader(int header) {
+        int players = players(header);
+        return players >= 2 && players <= Showdown.MAX_PLAYERS && boardCount(header) <= 5;
+    }
+
+    /**
+     * Appends a deal.
+     * @param out The buffer to write to.
+     * @param holeCards Two card codes per player.
+     * @param players Number of players (2 to 10).
+     * @param board Community card codes.
+     * @param boardCount Number of community cards (0 to 5).
+     */
+    public static void writeDeal(ByteBuffer out, int[] holeCards, int players, int[] board, int boardCount) {
+        if (players < 2 || players > Showdown.MAX_PLAYERS || boardCount < 0 || boardCount > 5) {
+            throw new IllegalArgumentException("A deal has 2 to " + Showdown.MAX_PLAYERS + " players and up to 5 board cards");
+        }
+        out.put((byte) (players << 3 | boardCount));
+        int bits = 0;
+        int pending = 0; // Bits in bits not written yet
+        for (int i = 0; i < 2 * players + boardCount; i++) {
+            int code = i < 2 * players ? holeCards[i] : board[i - 2 * players];
+            bits = bits << CARD_BITS | checkCode(code);
+            pending += CARD_BITS;
+            if (pending >= 8) {
+                pending -= 8;
+                out.put((byte) (bits >>> pending));
+            }
+        }
+        if (pending > 0) {
+            out.put((byte) (bits << (8 - pending)));
+        }
+    }
+
+    /**
+     * Reads a deal written by writeDeal. Codes outside 0 to 51 are rejected; the cards are
+     * not checked for duplicates.
+     * @param in The buffer to read from; its position moves past the deal.
+     * @param holeCards Receives two card codes per player.
+     * @param board Receives the community card codes.
+     * @return The deal's header; see players(header) and boardCount(header).
+     */
+    public static int readDeal(ByteBuffer in, int[] holeCards, int[] board) {
+        int header = in.get() & 0xFF;
+        if (!isValidHeader(header)) {
+            throw new IllegalArgumentException("Invalid deal header: " + header);
+        }
+        int players = players(header);
+        int bits = 0;
+        int available = 0; // Bits in bits not read yet
+        for (int i = 0; i < 2 * players + boardCount(header); i++) {
+            if (available < CARD_BITS) {
+                bits = bits << 8 | (in.get() & 0xFF);
+                available += 8;
+            }
+            available -= CARD_BITS;
+            int code = checkCode(bits >>> available & CARD_MASK);
+            if (i < 2 * players) {
+                holeCards[i] = code;
+            } else {
+                board[i - 2 * players] = code;
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Appends a list of cards: a count byte and the packed card codes.
+     * @param out The buffer to write to.
+     * @param cards The cards (at most 52).
+     */
+    public static void writeCards(ByteBuffer out, ArrayList<Card> cards) {
+        if (cards.size() > 52) {
+            throw new IllegalArgumentException("At most 52 cards");
+        }
+        out.put((byte) cards.size());
+        int bits = 0;
+        int pending = 0;
+        for (Card card : cards) {
+            bits = bits << CARD_BITS | card.getCode();
+            pending += CARD_BITS;
+            if (pending >= 8) {
+                pending -= 8;
+                out.put((byte) (bits >>> pending));
+            }
+        }
+        if (pending > 0) {
+            out.put((byte) (bits << (8 - pending)));
+        }
+    }
+
+    /**
+     * Reads a list of cards written by writeCards.
+     * @param in The buffer to read from.
+     * @return The cards, in the order they were written.
+     */
+    public static ArrayList<Card> readCards(ByteBuffer in) {
+        int count = in.get() & 0xFF;
+        if (count > 52) {
+            throw new IllegalArgumentException("Invalid card count: " + count);
+        }
+        ArrayList<Card> cards = new ArrayList<>(count);
+        int bits = 0;
+        int available = 0;
+        for (int i = 0; i < count; i++) {
+            if (available < CARD_BITS) {
+                bits = bits << 8 | (in.get() & 0xFF);
+                available += 8;
+            }
+            available -= CARD_BITS;
+            cards.add(Card.of(checkCode(bits >>> available & CARD_MASK)));
+        }
+        return cards;
+    }
+
+    /**
+     * Appends the cards a deck has not dealt yet, top card first, in the writeCards form.
+     * @param out The buffer to write to.
+     * @param deck The deck.
+     */
+    public static void writeDeck(ByteBuffer out, Deck deck) {
+        writeCards(out, deck.getCards());
+    }
+
+    /**
+     * Restores a deck written by writeDeck: afterwards it deals exactly the cards the written
+     * deck had left, in the same order. The deck keeps its generator.
+     * @param in The buffer to read from.
+     * @param deck The deck to restore.
+     */
+    public static void readDeck(ByteBuffer in, Deck deck) {
+        ArrayList<Card> cards = readCards(in);
+        int[] codes = new int[cards.size()];
+        long used = 0;
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cards.get(i).getCode();
+            if ((used & (1L << codes[i])) != 0) {
+                throw new IllegalArgumentException("Card used twice: " + cards.get(i));
+            }
+            used |= 1L << codes[i];
+        }
+        deck.setCards(codes, codes.length);
+    }
+
+    /**
+     * Appends a showdown: a byte with the number of players and each player's strength as a
+     * varint. The winners follow from the strengths, so they are not written.
+     * @param out The buffer to write to.
+     * @param showdown The showdown.
+     */
+    public static void writeShowdown(ByteBuffer out, ShowdownResult showdown) {
+        out.put((byte) showdown.getPlayerCount());
+        for (int p = 0; p < showdown.getPlayerCount(); p++) {
+            putVarLong(out, showdown.getStrength(p));
+        }
+    }
+
+    /**
+     * Reads a showdown written by writeShowdown into a reusable result.
+     * @param in The buffer to read from.
+     * @param out Receives the strengths and winners.
+     */
+    public static void readShowdown(ByteBuffer in, ShowdownResult out) {
+        int players = in.get();
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Invalid player count: " + players);
+        }
+        for (int p = 0; p < players; p++) {
+            out.set(p, (int) getVarLong(in));
+        }
+        out.resolve(players);
+    }
+
+    /**
+     * Appends a simulation's counters as varints.
+     * @param out The buffer to write to.
+     * @param result The counters.
+     */
+    public static void writeResult(ByteBuffer out, SimulationResult result) {
+        result.encode(out);
+    }
+
+    /**
+     * Reads counters written by writeResult.
+     * @param in The buffer to read from.
+     * @return The counters.
+     */
+    public static SimulationResult readResult(ByteBuffer in) {
+        return SimulationResult.decode(in);
+    }
+
+    /**
+     * Appends an unsigned varint; values up to 127 take one byte, negative values ten.
+     * @param out The buffer to write to.
+     * @param value The value.
+     */
+    public static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint written by putVarLong.
+     * @param in The buffer to read from.
+     * @return The value.
+     */
+    public static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than 10 bytes");
+    }
+
+    private static int checkCode(int code) {
+        if (code < 0 || code >= 52) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.project;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Counter-based generator for reproducible deals: the numbers drawn for trial t of a run
+ * with seed S depend only on S and t. seek(t) jumps straight to a trial's stream, so any trial
+ * can be dealt again on any thread, in any order, without replaying the trials before it.
+ *
+ * Each value is the SplitMix64 finalizer applied to key(S, t) + i * gamma, where i counts the
+ * values drawn since the last seek.
+ */
+public class DealStream implements RandomGenerator {
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long TRIAL_GAMMA = 0xD1B54A32D192ED03L;
+
+    private final long seed;
+    private long trial;
+    private long key;     // Start of the current trial's counter sequence
+    private long counter; // Values drawn in the current trial
+
+    /**
+     * Creates a stream positioned at trial 0.
+     * @param seed The seed of the run.
+     */
+    public DealStream(long seed) {
+        this.seed = seed;
+        seek(0);
+    }
+
+    /**
+     * Moves to the start of a trial's numbers.
+     * @param trial The trial index.
+     */
+    public void seek(long trial) {
+        this.trial = trial;
+        key = mix(seed ^ mix(trial * TRIAL_GAMMA + GAMMA));
+        counter = 0;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(key + ++counter * GAMMA);
+    }
+
+    public long getSeed() {return seed;}
+    public long getTrial() {return trial;}
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,49 +1,205 @@
 package com.example.project;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    private ArrayList<Card> cards; // List to hold all the cards in the deck
+    private final int[] cards = new int[52]; // Card codes; positions [cursor, size) are still in the deck
+    private int size;   // Number of cards that belong to the deck
+    private int cursor; // Position of the next card to deal
+    private RandomGenerator random; // Owned by this deck, never shared between threads
+    // Positions swapped by partialShuffle since the deck was last in code order, so resetOrdered can undo them
+    private final byte[] swapFrom = new byte[52];
+    private final byte[] swapTo = new byte[52];
+    private int swapCount = -1; // Entries in swapFrom and swapTo, or -1 if the order is not known that way
 
     /**
-     * Constructor that initializes and shuffles the deck.
+     * Constructor that initializes and shuffles the deck with its own unseeded generator.
      */
     public Deck() {
-        cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for reproducible deals: the same seed always gives the same card order.
+     * @param seed The seed for the deck's generator.
+     */
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor that initializes and shuffles the deck using the given generator.
+     * @param random The generator used for every shuffle of this deck.
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
         initializeDeck(); // Populate the deck with 52 cards
         shuffleDeck();    // Shuffle the deck for randomness
     }
 
     /**
-     * Retrieves the current list of cards in the deck.
+     * Creates an independent deck for another thread, drawing its generator from this deck's
+     * generator as a split stream. Requires a splittable generator such as SplittableRandom.
+     * @return A new shuffled deck with its own generator.
+     */
+    public Deck split() {
+        if (!(random instanceof RandomGenerator.SplittableGenerator)) {
+            throw new IllegalStateException("Deck generator is not splittable: " + random.getClass().getName());
+        }
+        return new Deck(((RandomGenerator.SplittableGenerator) random).split());
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Replaces the generator used by later shuffles.
+     * @param random The new generator.
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Retrieves the cards that have not been dealt yet, top card first.
+     * The list is a snapshot; changing it does not change the deck.
      * @return The list of cards.
      */
     public ArrayList<Card> getCards() {
-        return cards;
+        ArrayList<Card> remaining = new ArrayList<>(size - cursor);
+        for (int i = cursor; i < size; i++) {
+            remaining.add(Card.of(cards[i]));
+        }
+        return remaining;
+    }
+
+    /**
+     * Replaces the deck's contents: afterwards it deals exactly these cards, in this order.
+     * @param codes Distinct card codes, top card first.
+     * @param count Number of codes to use.
+     */
+    void setCards(int[] codes, int count) {
+        System.arraycopy(codes, 0, cards, 0, count);
+        size = count;
+        cursor = 0;
+        swapCount = -1;
     }
 
     /**
-     * Initializes the deck with all possible cards (52 in a standard deck).
-     * Uses the Utility class to get available suits and ranks.
+     * Initializes the deck with all possible cards (52 in a standard deck), in code order.
      */
     public void initializeDeck() {
-        String[] suits = Utility.getSuits(); // Retrieve available suits
-        String[] ranks = Utility.getRanks(); // Retrieve available ranks
+        for (int code = 0; code < cards.length; code++) {
+            cards[code] = code;
+        }
+        size = cards.length;
+        cursor = 0;
+        swapCount = 0;
+    }
 
-        // Create a card for each suit and rank combination
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                cards.add(new Card(rank, suit));
+    /**
+     * Takes a card out of the deck until the next initializeDeck(), e.g. known hole cards
+     * or dead cards. Only allowed while no cards are dealt (right after construction or reset()).
+     * @param code The card code to remove.
+     * @return True if the card was in the deck, otherwise false.
+     */
+    public boolean removeCard(int code) {
+        if (cursor != 0) {
+            throw new IllegalStateException("Cards can only be removed from a fully reset deck");
+        }
+        for (int i = 0; i < size; i++) {
+            if (cards[i] == code) {
+                cards[i] = cards[size - 1];
+                cards[size - 1] = code;
+                size--;
+                swapCount = -1;
+                return true;
             }
         }
+        return false;
     }
 
     /**
-     * Shuffles the deck to randomize the order of the cards.
+     * Shuffles the cards that have not been dealt yet (Fisher–Yates, in place).
      */
     public void shuffleDeck() {
-        Collections.shuffle(cards);
+        for (int i = size - 1; i > cursor; i--) {
+            int j = cursor + random.nextInt(i - cursor + 1);
+            int temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+        swapCount = -1;
+        Metrics.recorder().deckShuffled();
+    }
+
+    /**
+     * Randomizes only the next count cards to be dealt. Each of them is picked uniformly
+     * from all undealt cards, so after reset() a hand that deals k cards only needs
+     * partialShuffle(k) instead of a full shuffle.
+     * @param count Number of cards to randomize.
+     */
+    public void partialShuffle(int count) {
+        int end = Math.min(cursor + count, size);
+        if (swapCount >= 0 && swapCount + end - cursor > swapFrom.length) {
+            swapCount = -1; // Too many swaps to log; resetOrdered rebuilds the order instead
+        }
+        for (int i = cursor; i < end; i++) {
+            int j = i + random.nextInt(size - i);
+            int temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+            if (swapCount >= 0) {
+                swapFrom[swapCount] = (byte) i;
+                swapTo[swapCount++] = (byte) j;
+            }
+        }
+        Metrics.recorder().deckShuffled();
+    }
+
+    /**
+     * Returns every dealt card to the deck without reallocating anything.
+     * The order is kept, so follow with shuffleDeck() or partialShuffle().
+     */
+    public void reset() {
+        cursor = 0;
+    }
+
+    /**
+     * Returns every dealt card to the deck and puts the deck back in code order, so the next
+     * shuffle gives the same cards for the same random numbers no matter what was dealt before.
+     * Cards taken out with removeCard() stay out. When only partialShuffle() ran since the deck
+     * was last in code order, its swaps are undone in reverse, which costs O(cards dealt).
+     */
+    public void resetOrdered() {
+        if (swapCount >= 0) {
+            for (int k = swapCount - 1; k >= 0; k--) {
+                int temp = cards[swapFrom[k]];
+                cards[swapFrom[k]] = cards[swapTo[k]];
+                cards[swapTo[k]] = temp;
+            }
+        } else {
+            long present = 0;
+            for (int i = 0; i < size; i++) {
+                present |= 1L << cards[i];
+            }
+            for (int i = 0; present != 0; i++, present &= present - 1) {
+                cards[i] = Long.numberOfTrailingZeros(present);
+            }
+        }
+        swapCount = 0;
+        cursor = 0;
+    }
+
+    /**
+     * Returns every dealt card to the deck and shuffles it.
+     */
+    public void reshuffle() {
+        reset();
+        shuffleDeck();
     }
 
     /**
@@ -51,15 +207,27 @@ public class Deck {
      * @return The drawn card, or null if the deck is empty.
      */
     public Card drawCard() {
-        if (!cards.isEmpty()) {
-            return cards.remove(0); // Remove and return the top card
-        }
-        return null; // Return null if the deck is empty
+        return dealCard();
     }
 
-
     public Card dealCard() {
-        return cards.isEmpty() ? null : cards.remove(0);
+        return cursor < size ? Card.of(cards[cursor++]) : null;
+    }
+
+    /**
+     * Deals the top card as a card code, avoiding the Card lookup.
+     * @return The card code, or -1 if the deck is empty.
+     */
+    public int dealCode() {
+        return cursor < size ? cards[cursor++] : -1;
+    }
+
+    /**
+     * Number of cards left to deal.
+     * @return The remaining card count.
+     */
+    public int remaining() {
+        return size - cursor;
     }
 
     /**
@@ -67,6 +235,6 @@ public class Deck {
      * @return True if the deck has no cards left, otherwise false.
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cursor >= size;
     }
 }
@@ -0,0 +1,149 @@
+package com.example.project;
+
+import java.util.ArrayList;
+
+/**
+ * Monte Carlo equity for N players: deals random completions of the hole cards and board
+ * and counts who wins each showdown. One calculator owns one Deck, so it is not thread-safe;
+ * use one calculator per thread (Deck.split() gives independent streams).
+ */
+public class EquityCalculator {
+    public static final int UNKNOWN = -1; // Hole card slot that is dealt at random in every trial
+    private static final int CHECK_INTERVAL = 10_000; // Trials between precision checks
+
+    private final Deck deck;
+
+    public EquityCalculator() {
+        this(new Deck());
+    }
+
+    public EquityCalculator(long seed) {
+        this(new Deck(seed));
+    }
+
+    public EquityCalculator(Deck deck) {
+        this.deck = deck;
+    }
+
+    /**
+     * Runs random trials until maxTrials is reached or every player's equity is known to
+     * within targetPrecision percentage points (95% confidence).
+     * @param holeCards Two card codes per player; UNKNOWN deals that card at random.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt.
+     * @param maxTrials Upper bound on the number of trials.
+     * @param targetPrecision Confidence half-width to stop at, in percentage points; 0 runs all trials.
+     * @return The win/tie/loss counts per player.
+     */
+    public EquityResult calculate(int[] holeCards, int[] board, int[] deadCards, long maxTrials, double targetPrecision) {
+        int players = holeCards.length / 2;
+        if (players < 2 || players > Showdown.MAX_PLAYERS || holeCards.length % 2 != 0) {
+            throw new IllegalArgumentException("Need two hole cards for each of 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        if (board.length > 5) {
+            throw new IllegalArgumentException("A board has at most 5 cards");
+        }
+
+        // Take every known card out of the deck once; trials only deal what is missing
+        deck.initializeDeck();
+        removeKnown(holeCards, true);
+        removeKnown(board, false);
+        removeKnown(deadCards, false);
+
+        int[] hole = holeCards.clone();
+        int[] unknownSlots = new int[hole.length];
+        int unknownCount = 0;
+        for (int i = 0; i < hole.length; i++) {
+            if (hole[i] == UNKNOWN) {
+                unknownSlots[unknownCount++] = i;
+            }
+        }
+        long knownBoard = 0;
+        for (int code : board) {
+            knownBoard |= HandEvaluator.suitBit(code);
+        }
+        int missingBoard = 5 - board.length;
+        int dealt = unknownCount + missingBoard;
+        if (dealt > deck.remaining()) {
+            throw new IllegalArgumentException("Not enough cards left to complete the deal");
+        }
+
+        EquityResult result = new EquityResult(players);
+        ShowdownResult showdown = new ShowdownResult();
+        MetricsRecorder metrics = Metrics.recorder();
+        for (long trial = 0; trial < maxTrials; trial++) {
+            deck.reset();
+            deck.partialShuffle(dealt);
+            for (int i = 0; i < unknownCount; i++) {
+                hole[unknownSlots[i]] = deck.dealCode();
+            }
+            long boardMask = knownBoard;
+            for (int i = 0; i < missingBoard; i++) {
+                boardMask |= HandEvaluator.suitBit(deck.dealCode());
+            }
+
+            Showdown.evaluate(hole, players, boardMask, showdown, metrics);
+            result.record(showdown);
+
+            if (targetPrecision > 0 && (trial + 1) % CHECK_INTERVAL == 0 && isPrecise(result, targetPrecision)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Equity for players at a table, using each player's hole cards.
+     * @param players The players; each needs exactly two hole cards.
+     * @param board The known community cards.
+     * @param deadCards Cards that can never be dealt.
+     * @param maxTrials Upper bound on the number of trials.
+     * @param targetPrecision Confidence half-width to stop at, in percentage points; 0 runs all trials.
+     * @return The win/tie/loss counts per player.
+     */
+    public EquityResult calculate(ArrayList<Player> players, ArrayList<Card> board, ArrayList<Card> deadCards,
+                                  long maxTrials, double targetPrecision) {
+        int[] holeCards = new int[players.size() * 2];
+        for (int p = 0; p < players.size(); p++) {
+            ArrayList<Card> hand = players.get(p).getHand();
+            if (hand.size() != 2) {
+                throw new IllegalArgumentException("Player " + (p + 1) + " needs exactly two hole cards");
+            }
+            holeCards[2 * p] = hand.get(0).getCode();
+            holeCards[2 * p + 1] = hand.get(1).getCode();
+        }
+        return calculate(holeCards, codes(board), codes(deadCards), maxTrials, targetPrecision);
+    }
+
+    static int[] codes(ArrayList<Card> cards) {
+        int[] codes = new int[cards.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cards.get(i).getCode();
+        }
+        return codes;
+    }
+
+    // Only hole cards may be UNKNOWN; an unknown board card would be scored as a missing card
+    private void removeKnown(int[] codes, boolean allowUnknown) {
+        for (int code : codes) {
+            if (code == UNKNOWN && allowUnknown) {
+                continue;
+            }
+            if (code < 0 || code >= 52) {
+                throw new IllegalArgumentException("Invalid card code: " + code);
+            }
+            if (!deck.removeCard(code)) {
+                throw new IllegalArgumentException("Card used twice: " + Card.of(code));
+            }
+        }
+    }
+
+    private static boolean isPrecise(EquityResult result, double targetPrecision) {
+        for (int p = 0; p < result.getPlayerCount(); p++) {
+            if (result.getConfidenceInterval(p) > targetPrecision) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
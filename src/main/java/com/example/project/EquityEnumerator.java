@@ -0,0 +1,202 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exact equity: counts every remaining board runout for a fixed matchup.
+ * Runouts are numbered 0 .. C(n, k) - 1 in lexicographic order, so the work is split into
+ * index ranges across a ForkJoinPool; each leaf unranks its first runout once and then
+ * steps to the next combination in place.
+ */
+public class EquityEnumerator {
+    private static final long LEAF_SIZE = 20_000; // Runouts counted by a task without splitting further
+    private static final long[][] CHOOSE = new long[53][6];
+
+    static {
+        for (int n = 0; n < CHOOSE.length; n++) {
+            CHOOSE[n][0] = 1;
+            for (int k = 1; k < 6 && k <= n; k++) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    public EquityEnumerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EquityEnumerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Counts every completion of the board.
+     * @param holeCards Two known card codes per player.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt.
+     * @return The exact win/tie/loss counts per player.
+     */
+    public EquityResult enumerate(int[] holeCards, int[] board, int[] deadCards) {
+        int players = holeCards.length / 2;
+        if (players < 2 || players > Showdown.MAX_PLAYERS || holeCards.length % 2 != 0) {
+            throw new IllegalArgumentException("Need two hole cards for each of 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        if (board.length > 5) {
+            throw new IllegalArgumentException("A board has at most 5 cards");
+        }
+        long used = 0;
+        used = markUsed(used, holeCards);
+        used = markUsed(used, board);
+        used = markUsed(used, deadCards);
+
+        int[] remaining = new int[52 - Long.bitCount(used)];
+        int n = 0;
+        for (int code = 0; code < 52; code++) {
+            if ((used & (1L << code)) == 0) {
+                remaining[n++] = code;
+            }
+        }
+        long knownBoard = 0;
+        for (int code : board) {
+            knownBoard |= HandEvaluator.suitBit(code);
+        }
+        int missing = 5 - board.length;
+        if (missing > n) {
+            throw new IllegalArgumentException("Not enough cards left to complete the board");
+        }
+
+        Runouts task = new Runouts(holeCards, remaining, missing, knownBoard, 0, CHOOSE[n][missing]);
+        EquityResult result = pool.invoke(task);
+        result.markExact();
+        return result;
+    }
+
+    /**
+     * Exact equity for players at a table, using each player's hole cards.
+     * @param players The players; each needs exactly two hole cards.
+     * @param board The known community cards.
+     * @param deadCards Cards that can never be dealt.
+     * @return The exact win/tie/loss counts per player.
+     */
+    public EquityResult enumerate(ArrayList<Player> players, ArrayList<Card> board, ArrayList<Card> deadCards) {
+        int[] holeCards = new int[players.size() * 2];
+        for (int p = 0; p < players.size(); p++) {
+            ArrayList<Card> hand = players.get(p).getHand();
+            if (hand.size() != 2) {
+                throw new IllegalArgumentException("Player " + (p + 1) + " needs exactly two hole cards");
+            }
+            holeCards[2 * p] = hand.get(0).getCode();
+            holeCards[2 * p + 1] = hand.get(1).getCode();
+        }
+        return enumerate(holeCards, EquityCalculator.codes(board), EquityCalculator.codes(deadCards));
+    }
+
+    private static long markUsed(long used, int[] codes) {
+        for (int code : codes) {
+            if (code < 0 || code >= 52) {
+                throw new IllegalArgumentException("Enumeration needs known cards, got code " + code);
+            }
+            if ((used & (1L << code)) != 0) {
+                throw new IllegalArgumentException("Card used twice: " + Card.of(code));
+            }
+            used |= 1L << code;
+        }
+        return used;
+    }
+
+    // Binomial coefficient for n up to 52 and k up to 5
+    static long choose(int n, int k) {
+        return CHOOSE[n][k];
+    }
+
+    /**
+     * Writes the combination with the given lexicographic rank into positions.
+     * @param rank The combination index.
+     * @param n Number of cards to choose from.
+     * @param k Number of cards chosen.
+     * @param positions Receives k increasing indexes into the remaining cards.
+     */
+    static void unrank(long rank, int n, int k, int[] positions) {
+        int next = 0;
+        for (int i = 0; i < k; i++) {
+            while (true) {
+                long count = CHOOSE[n - next - 1][k - i - 1]; // Combinations that start with "next" here
+                if (rank < count) {
+                    break;
+                }
+                rank -= count;
+                next++;
+            }
+            positions[i] = next++;
+        }
+    }
+
+    // Advances positions to the lexicographically next combination; false after the last one
+    static boolean nextCombination(int[] positions, int n, int k) {
+        int i = k - 1;
+        while (i >= 0 && positions[i] == n - k + i) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        positions[i]++;
+        for (int j = i + 1; j < k; j++) {
+            positions[j] = positions[j - 1] + 1;
+        }
+        return true;
+    }
+
+    private static class Runouts extends RecursiveTask<EquityResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] holeCards;
+        private final int[] remaining;
+        private final int missing;
+        private final long knownBoard;
+        private final long from;
+        private final long to;
+
+        Runouts(int[] holeCards, int[] remaining, int missing, long knownBoard, long from, long to) {
+            this.holeCards = holeCards;
+            this.remaining = remaining;
+            this.missing = missing;
+            this.knownBoard = knownBoard;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected EquityResult compute() {
+            if (to - from > LEAF_SIZE) {
+                long middle = (from + to) >>> 1;
+                Runouts left = new Runouts(holeCards, remaining, missing, knownBoard, from, middle);
+                left.fork();
+                EquityResult result = new Runouts(holeCards, remaining, missing, knownBoard, middle, to).compute();
+                result.add(left.join());
+                return result;
+            }
+
+            int players = holeCards.length / 2;
+            EquityResult result = new EquityResult(players);
+            ShowdownResult showdown = new ShowdownResult();
+            MetricsRecorder metrics = Metrics.recorder();
+            int[] positions = new int[missing];
+            unrank(from, remaining.length, missing, positions);
+            for (long index = from; index < to; index++) {
+                long boardMask = knownBoard;
+                for (int i = 0; i < missing; i++) {
+                    boardMask |= HandEvaluator.suitBit(remaining[positions[i]]);
+                }
+                Showdown.evaluate(holeCards, players, boardMask, showdown, metrics);
+                result.record(showdown);
+                nextCombination(positions, remaining.length, missing);
+            }
+            return result;
+        }
+    }
+}
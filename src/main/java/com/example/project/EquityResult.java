@@ -0,0 +1,116 @@
+package com.example.project;
+
+/**
+ * Win/tie/loss counts per player from an equity calculation.
+ * A tie means the player shared the pot; equity counts a k-way split as 1/k of a win.
+ */
+public class EquityResult {
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] equitySum;     // Sum of pot shares per trial
+    private final double[] equitySquares; // Sum of squared pot shares, for the confidence interval
+    private long trials;
+    private boolean exact; // Every possible board was counted, so there is no sampling error
+
+    public EquityResult(int players) {
+        wins = new long[players];
+        ties = new long[players];
+        equitySum = new double[players];
+        equitySquares = new double[players];
+    }
+
+    /**
+     * Records one finished board: every player holding the best hand shares the pot.
+     * @param showdown The showdown on this board.
+     */
+    void record(ShowdownResult showdown) {
+        int winners = showdown.getWinnerCount();
+        double share = 1.0 / winners;
+        for (int p = 0; p < wins.length; p++) {
+            if (showdown.isWinner(p)) {
+                if (winners == 1) {
+                    wins[p]++;
+                } else {
+                    ties[p]++;
+                }
+                equitySum[p] += share;
+                equitySquares[p] += share * share;
+            }
+        }
+        trials++;
+    }
+
+    /**
+     * Adds the counts of another result for the same players into this one.
+     * @param other The result to merge.
+     */
+    void add(EquityResult other) {
+        for (int p = 0; p < wins.length; p++) {
+            wins[p] += other.wins[p];
+            ties[p] += other.ties[p];
+            equitySum[p] += other.equitySum[p];
+            equitySquares[p] += other.equitySquares[p];
+        }
+        trials += other.trials;
+    }
+
+    void markExact() {
+        exact = true;
+    }
+
+    public boolean isExact() {return exact;}
+    public int getPlayerCount() {return wins.length;}
+    public long getTrials() {return trials;}
+    public long getWins(int player) {return wins[player];}
+    public long getTies(int player) {return ties[player];}
+    public long getLosses(int player) {return trials - wins[player] - ties[player];}
+
+    public double getWinPercentage(int player) {
+        return trials == 0 ? 0 : 100.0 * wins[player] / trials;
+    }
+
+    public double getTiePercentage(int player) {
+        return trials == 0 ? 0 : 100.0 * ties[player] / trials;
+    }
+
+    public double getLossPercentage(int player) {
+        return trials == 0 ? 0 : 100.0 * getLosses(player) / trials;
+    }
+
+    /**
+     * Expected share of the pot, in percent.
+     * @param player The player index.
+     * @return The equity percentage.
+     */
+    public double getEquity(int player) {
+        return trials == 0 ? 0 : 100.0 * equitySum[player] / trials;
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of getEquity, in percentage points (0 if exact).
+     * @param player The player index.
+     * @return The confidence half-width.
+     */
+    public double getConfidenceInterval(int player) {
+        if (exact) {
+            return 0;
+        }
+        if (trials < 2) {
+            return 100.0;
+        }
+        double mean = equitySum[player] / trials;
+        double variance = Math.max(0, equitySquares[player] / trials - mean * mean);
+        return 100.0 * 1.96 * Math.sqrt(variance / (trials - 1));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < wins.length; p++) {
+            text.append(String.format("Player %d: %.2f%% equity (win %.2f%%, tie %.2f%%, loss %.2f%%) +/- %.2f%n",
+                    p + 1, getEquity(p), getWinPercentage(p), getTiePercentage(p), getLossPercentage(p),
+                    getConfidenceInterval(p)));
+        }
+        return text.toString();
+    }
+}
@@ -6,81 +6,134 @@ public class Game {
 
     /**
      * Determines the winner between two players based on their best poker hands.
+     * Both hands are evaluated again from the players' hole cards and the community cards, and
+     * the packed HandEvaluator strengths (category and kickers) are compared. The hand names are
+     * ignored: they only keep the signature of existing callers, and need not match the cards.
+     * Callers that already have the strengths can use determineWinner(int, int).
      * @param p1 The first player.
      * @param p2 The second player.
-     * @param p1Hand The best hand ranking of player 1.
-     * @param p2Hand The best hand ranking of player 2.
+     * @param p1Hand Ignored; the best hand ranking of player 1, e.g. from playHand.
+     * @param p2Hand Ignored; the best hand ranking of player 2.
      * @param communityCards The shared community cards on the table.
      * @return A string announcing the winner or if it's a tie.
      */
     public static String determineWinner(Player p1, Player p2, String p1Hand, String p2Hand, ArrayList<Card> communityCards) {
-        // Compare hand rankings numerically
-        int p1Rank = getHandRank(p1Hand);
-        int p2Rank = getHandRank(p2Hand);
+        int p1Strength = HandEvaluator.evaluate(p1.getHand(), communityCards);
+        int p2Strength = HandEvaluator.evaluate(p2.getHand(), communityCards);
+        Metrics.recorder().evaluations(2);
+        return determineWinner(p1Strength, p2Strength);
+    }
 
-        if (p1Rank > p2Rank) {
+    /**
+     * Determines the winner from two hand strengths with a single comparison.
+     * @param p1Strength The hand strength of player 1 (see HandEvaluator).
+     * @param p2Strength The hand strength of player 2.
+     * @return A string announcing the winner or if it's a tie.
+     */
+    public static String determineWinner(int p1Strength, int p2Strength) {
+        if (p1Strength > p2Strength) {
             return "Player 1 wins!";
-        } else if (p2Rank > p1Rank) {
+        } else if (p2Strength > p1Strength) {
             return "Player 2 wins!";
-        } else {
-            // Tiebreaker: Compare highest-ranked cards
-            ArrayList<Card> p1Cards = new ArrayList<>(p1.getCards());
-            p1Cards.addAll(communityCards);
-            ArrayList<Card> p2Cards = new ArrayList<>(p2.getCards());
-            p2Cards.addAll(communityCards);
-
-            // Sort cards in descending order of rank
-            sortCardsByRank(p1Cards);
-            sortCardsByRank(p2Cards);
-
-            // Compare the highest cards one by one
-            for (int i = 0; i < p1Cards.size(); i++) {
-                if (p1Cards.get(i).getRankValue() > p2Cards.get(i).getRankValue()) {
-                    return "Player 1 wins!";
-                } else if (p1Cards.get(i).getRankValue() < p2Cards.get(i).getRankValue()) {
-                    return "Player 2 wins!";
-                }
-            }
-            return "Tie!";
         }
+        return "Tie!";
+    }
+
+    /**
+     * Determines the winners among 2 to 10 players. Each player's hand is evaluated once;
+     * several winners mean a split pot.
+     * @param players The players at the table.
+     * @param communityCards The shared community cards on the table.
+     * @return The strengths and winners.
+     */
+    public static ShowdownResult determineWinners(ArrayList<Player> players, ArrayList<Card> communityCards) {
+        ShowdownResult result = new ShowdownResult();
+        determineWinners(players, communityCards, result);
+        return result;
     }
 
     /**
-     * Converts a hand name to a numerical rank for comparison.
-     * @param hand The poker hand name.
-     * @return The numerical rank of the hand (higher is better).
+     * Determines the winners among 2 to 10 players into a reusable result object.
+     * @param players The players at the table.
+     * @param communityCards The shared community cards on the table.
+     * @param result Receives the strengths and winners.
      */
-    private static int getHandRank(String hand) {
-        switch (hand) {
-            case "Royal Flush": return 10;
-            case "Straight Flush": return 9;
-            case "Four of a Kind": return 8;
-            case "Full House": return 7;
-            case "Flush": return 6;
-            case "Straight": return 5;
-            case "Three of a Kind": return 4;
-            case "Two Pair": return 3;
-            case "One Pair": return 2;
-            case "High Card": return 1;
-            default: return 0; // Invalid or unrecognized hand
+    public static void determineWinners(ArrayList<Player> players, ArrayList<Card> communityCards, ShowdownResult result) {
+        if (players.size() < 2 || players.size() > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A showdown needs 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        for (int p = 0; p < players.size(); p++) {
+            result.set(p, HandEvaluator.evaluate(players.get(p).getHand(), communityCards));
         }
+        result.resolve(players.size());
+        Metrics.recorder().showdown(result);
+    }
+
+    /**
+     * Equity of one weighted range against another, e.g. "QQ+, AKs" against "50% AJo, 77-99".
+     * Boards are enumerated from the flop on and sampled before it, with
+     * RangeEquity.DEFAULT_SAMPLES boards and seed 1.
+     * @param heroRange The first range (see HandRange).
+     * @param villainRange The second range.
+     * @param communityCards The known community cards.
+     * @return The first range's equity.
+     */
+    public static RangeEquityResult rangeEquity(String heroRange, String villainRange, ArrayList<Card> communityCards) {
+        return rangeEquity(heroRange, villainRange, communityCards, RangeEquity.DEFAULT_SAMPLES, 1);
     }
 
     /**
-     * Sorts a list of cards in descending order based on their rank.
-     * @param cards The list of cards to be sorted.
+     * Equity of one weighted range against another, sampling the given number of boards
+     * when there are too many runouts to enumerate.
+     * @param heroRange The first range (see HandRange).
+     * @param villainRange The second range.
+     * @param communityCards The known community cards.
+     * @param samples Boards to sample.
+     * @param seed Seed for the sampled boards; the same seed gives the same result.
+     * @return The first range's equity.
      */
-    private static void sortCardsByRank(ArrayList<Card> cards) {
-        for (int i = 0; i < cards.size() - 1; i++) {
-            for (int j = i + 1; j < cards.size(); j++) {
-                if (cards.get(i).getRankValue() < cards.get(j).getRankValue()) {
-                    // Swap cards to maintain descending order
-                    Card temp = cards.get(i);
-                    cards.set(i, cards.get(j));
-                    cards.set(j, temp);
-                }
+    public static RangeEquityResult rangeEquity(String heroRange, String villainRange, ArrayList<Card> communityCards,
+                                                long samples, long seed) {
+        return new RangeEquity().calculate(HandRange.parse(heroRange), HandRange.parse(villainRange),
+                EquityCalculator.codes(communityCards), new int[0], samples, seed);
+    }
+
+    /**
+     * Deals one table of a seeded Simulation run again, e.g. to inspect an unusual result.
+     * @param seed Seed of the run.
+     * @param trial The table number within the run.
+     * @param players Seats at the table (2 to 10).
+     * @return The hole cards of every seat, the board and the winners.
+     */
+    public static String replay(long seed, long trial, int players) {
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A table seats 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        DealStream stream = new DealStream(seed);
+        Deck deck = new Deck(stream);
+        stream.seek(trial);
+        int[] hole = new int[2 * players];
+        int[] board = new int[5];
+        Simulation.dealTable(deck, players, hole, board);
+        ShowdownResult showdown = new ShowdownResult();
+        Showdown.evaluate(hole, players, board, board.length, showdown);
+
+        StringBuilder text = new StringBuilder();
+        for (int seat = 0; seat < players; seat++) {
+            text.append("Seat ").append(seat + 1).append(": ").append(Card.of(hole[2 * seat]))
+                    .append(", ").append(Card.of(hole[2 * seat + 1])).append('\n');
+        }
+        text.append("Board:");
+        for (int code : board) {
+            text.append(' ').append(Card.of(code));
+        }
+        text.append('\n').append(showdown.isSplitPot() ? "Split pot:" : "Winner:");
+        for (int seat = 0; seat < players; seat++) {
+            if (showdown.isWinner(seat)) {
+                text.append(" Seat ").append(seat + 1);
             }
         }
+        return text.toString();
     }
 
     /**
@@ -88,9 +141,21 @@ public class Game {
      * This method creates a deck, deals cards, evaluates hands, and determines the winner.
      */
     public static void play() {
-        // Initialize deck and shuffle it
-        Deck deck = new Deck();
-        deck.shuffleDeck();
+        System.out.println(play(new Deck()));
+    }
+
+    /**
+     * Plays one round between two players with the given deck, without printing.
+     * The deck is reset and reshuffled first, so it can be reused round after round.
+     * @param deck The deck to deal from.
+     * @return A string announcing the winner or if it's a tie.
+     */
+    public static String play(Deck deck) {
+        MetricsRecorder metrics = Metrics.recorder();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+
+        // Return all cards and shuffle the deck
+        deck.reshuffle();
 
         // Create two players
         Player p1 = new Player();
@@ -107,13 +172,21 @@ public class Game {
         for (int i = 0; i < 5; i++) {
             communityCards.add(deck.dealCard());
         }
+        long dealt = metrics.isEnabled() ? System.nanoTime() : 0;
 
         // Evaluate the best hand for each player
-        String p1Hand = p1.playHand(communityCards);
-        String p2Hand = p2.playHand(communityCards);
+        p1.playHand(communityCards);
+        p2.playHand(communityCards);
+        long evaluated = metrics.isEnabled() ? System.nanoTime() : 0;
 
-        // Determine the winner and print the result
-        String result = determineWinner(p1, p2, p1Hand, p2Hand, communityCards);
-        System.out.println(result);
+        // Determine the winner
+        String winner = determineWinner(p1.getHandStrength(), p2.getHandStrength());
+        if (metrics.isEnabled()) {
+            metrics.phaseLatency(MetricsRecorder.PHASE_DEAL, dealt - start);
+            metrics.phaseLatency(MetricsRecorder.PHASE_EVALUATE, evaluated - dealt);
+            metrics.phaseLatency(MetricsRecorder.PHASE_SHOWDOWN, System.nanoTime() - evaluated);
+            metrics.headsUpShowdown(p1.getHandStrength(), p2.getHandStrength()); // playHand counted the evaluations
+        }
+        return winner;
     }
 }
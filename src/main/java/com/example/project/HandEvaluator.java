@@ -0,0 +1,207 @@
+package com.example.project;
+
+import java.util.ArrayList;
+
+/**
+ * Evaluates poker hands of up to seven encoded cards (see Card) into a single int strength.
+ * A higher strength always means a better hand, so any two strengths can be compared directly.
+ *
+ * Strength layout: category in bits 20 and up, then up to five ranks as 4-bit nibbles
+ * (bits 19..0), most significant first. Each nibble holds rank index + 1, so 0 means "no card".
+ *
+ * Internally a hand is a "suit mask": four 13-bit rank masks, one per suit, at bit suit * 16 + rank.
+ * Rank multiplicities are derived from the four masks with bit operations, and straights and
+ * kickers come from 8192-entry tables built once when the class is loaded.
+ */
+public class HandEvaluator {
+    public static final int HIGH_CARD = 0;
+    public static final int ONE_PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int THREE_OF_A_KIND = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL_HOUSE = 6;
+    public static final int FOUR_OF_A_KIND = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+
+    private static final int CATEGORY_SHIFT = 20;
+    private static final int RANK_MASK = 0x1FFF;
+
+    // Highest card (rank index + 1) of the best straight in a rank mask, or 0 if there is none
+    private static final int[] STRAIGHT_HIGH = new int[1 << 13];
+    // The five highest ranks of a rank mask packed as nibbles in bits 19..0
+    private static final int[] TOP_FIVE = new int[1 << 13];
+
+    static {
+        for (int mask = 0; mask < (1 << 13); mask++) {
+            for (int high = 12; high >= 4; high--) {
+                int window = 0x1F << (high - 4);
+                if ((mask & window) == window) {
+                    STRAIGHT_HIGH[mask] = high + 1;
+                    break;
+                }
+            }
+            // The wheel (A-2-3-4-5) is a five-high straight
+            if (STRAIGHT_HIGH[mask] == 0 && (mask & 0x100F) == 0x100F) {
+                STRAIGHT_HIGH[mask] = 4;
+            }
+
+            int packed = 0;
+            int taken = 0;
+            for (int rank = 12; rank >= 0 && taken < 5; rank--) {
+                if ((mask & (1 << rank)) != 0) {
+                    packed = (packed << 4) | (rank + 1);
+                    taken++;
+                }
+            }
+            TOP_FIVE[mask] = packed << (4 * (5 - taken));
+        }
+    }
+
+    /**
+     * Evaluates exactly seven encoded cards.
+     * @return The hand strength.
+     */
+    public static int evaluate(int c0, int c1, int c2, int c3, int c4, int c5, int c6) {
+        return evaluateSuitMask(suitBit(c0) | suitBit(c1) | suitBit(c2) | suitBit(c3)
+                | suitBit(c4) | suitBit(c5) | suitBit(c6));
+    }
+
+    /**
+     * Evaluates up to seven encoded cards stored in an array.
+     * @param cards The card codes.
+     * @param offset Index of the first card.
+     * @param count Number of cards to evaluate.
+     * @return The hand strength.
+     */
+    public static int evaluate(int[] cards, int offset, int count) {
+        long suits = 0;
+        for (int i = offset; i < offset + count; i++) {
+            suits |= suitBit(cards[i]);
+        }
+        return evaluateSuitMask(suits);
+    }
+
+    /**
+     * Evaluates up to seven cards.
+     * @param cards The cards to evaluate.
+     * @return The hand strength.
+     */
+    public static int evaluate(ArrayList<Card> cards) {
+        long suits = 0;
+        for (Card card : cards) {
+            suits |= suitBit(card.getCode());
+        }
+        return evaluateSuitMask(suits);
+    }
+
+    /**
+     * Evaluates a player's hole cards together with the community cards, without copying either list.
+     * @param hand The player's hole cards.
+     * @param communityCards The shared community cards.
+     * @return The hand strength.
+     */
+    public static int evaluate(ArrayList<Card> hand, ArrayList<Card> communityCards) {
+        long suits = 0;
+        for (Card card : hand) {
+            suits |= suitBit(card.getCode());
+        }
+        for (Card card : communityCards) {
+            suits |= suitBit(card.getCode());
+        }
+        return evaluateSuitMask(suits);
+    }
+
+    // Bit of an encoded card inside a suit mask
+    static long suitBit(int code) {
+        return 1L << (((code & 3) << 4) + (code >> 2));
+    }
+
+    /**
+     * Evaluates a suit mask holding at most seven cards.
+     * @param suits Four 13-bit rank masks at bit offsets 0, 16, 32 and 48.
+     * @return The hand strength.
+     */
+    static int evaluateSuitMask(long suits) {
+        int s0 = (int) suits & RANK_MASK;
+        int s1 = (int) (suits >>> 16) & RANK_MASK;
+        int s2 = (int) (suits >>> 32) & RANK_MASK;
+        int s3 = (int) (suits >>> 48) & RANK_MASK;
+
+        // With seven cards a flush rules out quads and full houses, so it can be settled first
+        int flush = Integer.bitCount(s0) >= 5 ? s0
+                : Integer.bitCount(s1) >= 5 ? s1
+                : Integer.bitCount(s2) >= 5 ? s2
+                : Integer.bitCount(s3) >= 5 ? s3 : 0;
+        if (flush != 0) {
+            int high = STRAIGHT_HIGH[flush];
+            if (high != 0) {
+                return (STRAIGHT_FLUSH << CATEGORY_SHIFT) | (high << 16);
+            }
+            return (FLUSH << CATEGORY_SHIFT) | TOP_FIVE[flush];
+        }
+
+        // Ranks held at least once, twice, three times and four times
+        int r1 = s0 | s1 | s2 | s3;
+        int r2 = (s0 & s1) | (s2 & s3) | ((s0 | s1) & (s2 | s3));
+        int r3 = (s0 & s1 & (s2 | s3)) | (s2 & s3 & (s0 | s1));
+        int r4 = s0 & s1 & s2 & s3;
+
+        if (r4 != 0) {
+            int quad = highestBit(r4);
+            return (FOUR_OF_A_KIND << CATEGORY_SHIFT) | ((quad + 1) << 16)
+                    | ((TOP_FIVE[r1 & ~(1 << quad)] >> 4) & 0xF000);
+        }
+        if (r3 != 0) {
+            int trips = highestBit(r3);
+            int pairs = r2 & ~(1 << trips);
+            if (pairs != 0) {
+                return (FULL_HOUSE << CATEGORY_SHIFT) | ((trips + 1) << 16)
+                        | ((highestBit(pairs) + 1) << 12);
+            }
+        }
+        int straightHigh = STRAIGHT_HIGH[r1];
+        if (straightHigh != 0) {
+            return (STRAIGHT << CATEGORY_SHIFT) | (straightHigh << 16);
+        }
+        if (r3 != 0) {
+            int trips = highestBit(r3);
+            return (THREE_OF_A_KIND << CATEGORY_SHIFT) | ((trips + 1) << 16)
+                    | ((TOP_FIVE[r1 & ~(1 << trips)] >> 4) & 0xFF00);
+        }
+        if (r2 != 0) {
+            int high = highestBit(r2);
+            int rest = r2 & ~(1 << high);
+            if (rest != 0) {
+                int low = highestBit(rest);
+                return (TWO_PAIR << CATEGORY_SHIFT) | ((high + 1) << 16) | ((low + 1) << 12)
+                        | ((TOP_FIVE[r1 & ~(1 << high) & ~(1 << low)] >> 8) & 0xF00);
+            }
+            return (ONE_PAIR << CATEGORY_SHIFT) | ((high + 1) << 16)
+                    | ((TOP_FIVE[r1 & ~(1 << high)] >> 4) & 0xFFF0);
+        }
+        return (HIGH_CARD << CATEGORY_SHIFT) | TOP_FIVE[r1];
+    }
+
+    private static int highestBit(int mask) {
+        return 31 - Integer.numberOfLeadingZeros(mask);
+    }
+
+    /**
+     * Extracts the hand category (HIGH_CARD .. STRAIGHT_FLUSH) from a strength.
+     * @param strength A value returned by evaluate.
+     * @return The category constant.
+     */
+    public static int getCategory(int strength) {
+        return strength >>> CATEGORY_SHIFT;
+    }
+
+    /**
+     * Checks whether a strength is an ace-high straight flush.
+     * @param strength A value returned by evaluate.
+     * @return True for a royal flush.
+     */
+    public static boolean isRoyalFlush(int strength) {
+        return getCategory(strength) == STRAIGHT_FLUSH && ((strength >> 16) & 0xF) == 13;
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams hand histories from a file through Showdown, one hand at a time. The file is read
+ * through a FileChannel into one fixed buffer and parsed in place into card codes, so memory
+ * use does not depend on the size of the file.
+ *
+ * Text form, one hand per line: every player's two hole cards, a "|", then the board, e.g.
+ * "AhKd QsQc | 2d7h9sTcJd". Cards are a rank symbol (Utility.getRankSymbol) followed by a suit
+ * letter (Utility.getSuitLetter); spaces between cards are optional and "#" starts a comment.
+ * Lines that do not describe a hand of 2 to 10 players are counted as skipped.
+ *
+ * Binary form, one DealCodec deal per hand: a header byte with the number of players and board
+ * cards, then the hole and board card codes packed into 6 bits each (see writeRecord).
+ */
+public class HandHistoryReader {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int MIN_BUFFER_SIZE = DealCodec.MAX_DEAL_SIZE; // Holds any binary deal
+    private static final byte[] RANK_OF = new byte[128];
+    private static final byte[] SUIT_OF = new byte[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            RANK_OF[c] = (byte) Utility.getRankSymbolIndex(c);
+            SUIT_OF[c] = (byte) Utility.getSuitLetterIndex(c);
+        }
+    }
+
+    /**
+     * Receives every hand that was read. The arrays are reused for the next hand.
+     */
+    public interface HandListener {
+        void onHand(int[] holeCards, int players, int[] board, int boardCount, ShowdownResult showdown);
+    }
+
+    private final ByteBuffer buffer;
+    private final int[] holeCards = new int[2 * Showdown.MAX_PLAYERS];
+    private final int[] board = new int[5];
+    private final ShowdownResult showdown = new ShowdownResult();
+    private long hands;
+    private long skipped;
+
+    public HandHistoryReader() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize Bytes read from the file at a time; also the longest text line accepted.
+     */
+    public HandHistoryReader(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least " + MIN_BUFFER_SIZE + " bytes");
+        }
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Reads a text hand history.
+     * @param file The file to read.
+     * @param listener Receives each scored hand.
+     * @return The number of hands scored from this file.
+     * @throws IOException If the file cannot be read.
+     */
+    public long readText(Path file, HandListener listener) throws IOException {
+        long before = hands;
+        boolean overlong = false; // Inside a line that did not fit in the buffer
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                int read = channel.read(buffer);
+                buffer.flip();
+                int start = 0;
+                int limit = buffer.limit();
+                for (int i = 0; i < limit; i++) {
+                    if (buffer.get(i) == '\n') {
+                        if (overlong) {
+                            overlong = false;
+                            skipped++;
+                        } else {
+                            parseLine(start, i, listener);
+                        }
+                        start = i + 1;
+                    }
+                }
+                if (read < 0) {
+                    if (overlong) {
+                        skipped++;
+                    } else if (start < limit) {
+                        parseLine(start, limit, listener);
+                    }
+                    return hands - before;
+                }
+                if (start == 0 && limit == buffer.capacity()) {
+                    overlong = true;
+                    start = limit;
+                }
+                buffer.position(start);
+                buffer.compact();
+            }
+        }
+    }
+
+    /**
+     * Reads a binary hand history.
+     * @param file The file to read.
+     * @param listener Receives each scored hand.
+     * @return The number of hands scored from this file.
+     * @throws IOException If the file cannot be read or is corrupt.
+     */
+    public long readBinary(Path file, HandListener listener) throws IOException {
+        long before = hands;
+        long offset = 0; // File position of the buffer's first byte
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                int read = channel.read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    int header = buffer.get(start);
+                    if (!DealCodec.isValidHeader(header)) {
+                        throw new IOException("Corrupt hand history record at byte " + (offset + start));
+                    }
+                    int players = DealCodec.players(header);
+                    int boardCount = DealCodec.boardCount(header);
+                    if (buffer.remaining() < DealCodec.dealSize(players, boardCount)) {
+                        break;
+                    }
+                    DealCodec.readDeal(buffer, holeCards, board);
+                    if (!validCards(players, boardCount)) {
+                        throw new IOException("Invalid cards in hand history record at byte " + (offset + start));
+                    }
+                    score(players, boardCount, listener);
+                }
+                if (read < 0) {
+                    if (buffer.hasRemaining()) {
+                        throw new IOException("Truncated hand history record at byte " + (offset + buffer.position()));
+                    }
+                    return hands - before;
+                }
+                offset += buffer.position();
+                buffer.compact();
+            }
+        }
+    }
+
+    /**
+     * Appends one hand in the binary form.
+     * @param out The buffer to write to.
+     * @param holeCards Two card codes per player.
+     * @param players Number of players (2 to 10).
+     * @param board Community card codes.
+     * @param boardCount Number of community cards (0 to 5).
+     */
+    public static void writeRecord(ByteBuffer out, int[] holeCards, int players, int[] board, int boardCount) {
+        DealCodec.writeDeal(out, holeCards, players, board, boardCount);
+    }
+
+    // Parses the line in buffer[from, to) and scores it, or counts it as skipped
+    private void parseLine(int from, int to, HandListener listener) {
+        int i = skipSpaces(from, to);
+        if (i == to || buffer.get(i) == '#') {
+            return; // Blank line or comment
+        }
+        int cards = 0;
+        while (true) {
+            i = skipSpaces(i, to);
+            if (i == to || buffer.get(i) == '#') {
+                skipped++;
+                return;
+            }
+            if (buffer.get(i) == '|') {
+                i++;
+                break;
+            }
+            int code = parseCard(i, to);
+            if (code < 0 || cards == holeCards.length) {
+                skipped++;
+                return;
+            }
+            holeCards[cards++] = code;
+            i += 2;
+        }
+        int boardCount = 0;
+        while (true) {
+            i = skipSpaces(i, to);
+            if (i == to || buffer.get(i) == '#') {
+                break;
+            }
+            int code = parseCard(i, to);
+            if (code < 0 || boardCount == board.length) {
+                skipped++;
+                return;
+            }
+            board[boardCount++] = code;
+            i += 2;
+        }
+        if (cards % 2 != 0 || cards < 4 || !validCards(cards / 2, boardCount)) {
+            skipped++;
+            return;
+        }
+        score(cards / 2, boardCount, listener);
+    }
+
+    private int parseCard(int i, int to) {
+        if (i + 1 >= to) {
+            return -1;
+        }
+        int rankSymbol = buffer.get(i);
+        int suitLetter = buffer.get(i + 1);
+        if (rankSymbol < 0 || suitLetter < 0) {
+            return -1; // Not ASCII
+        }
+        int rank = RANK_OF[rankSymbol];
+        int suit = SUIT_OF[suitLetter];
+        return rank < 0 || suit < 0 ? -1 : rank * 4 + suit;
+    }
+
+    private int skipSpaces(int i, int to) {
+        while (i < to && (buffer.get(i) == ' ' || buffer.get(i) == '\t' || buffer.get(i) == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    // Every card is a valid code and no card appears twice
+    private boolean validCards(int players, int boardCount) {
+        long used = 0;
+        for (int i = 0; i < 2 * players + boardCount; i++) {
+            int code = i < 2 * players ? holeCards[i] : board[i - 2 * players];
+            if (code < 0 || code >= 52 || (used & (1L << code)) != 0) {
+                return false;
+            }
+            used |= 1L << code;
+        }
+        return true;
+    }
+
+    private void score(int players, int boardCount, HandListener listener) {
+        Showdown.evaluate(holeCards, players, board, boardCount, showdown);
+        hands++;
+        listener.onHand(holeCards, players, board, boardCount, showdown);
+    }
+
+    /**
+     * @return Hands scored by this reader so far, over all files.
+     */
+    public long getHands() {return hands;}
+
+    /**
+     * @return Text lines skipped because they did not describe a valid hand.
+     */
+    public long getSkipped() {return skipped;}
+
+    /**
+     * Prints aggregate statistics of a hand history: HandHistoryReader [--binary] file...
+     */
+    public static void main(String[] args) throws IOException {
+        boolean binary = args.length > 0 && args[0].equals("--binary");
+        if (args.length < (binary ? 2 : 1)) {
+            System.out.println("Usage: HandHistoryReader [--binary] <file>...");
+            return;
+        }
+        HandHistoryReader reader = new HandHistoryReader();
+        HandHistoryStats stats = new HandHistoryStats();
+        for (int i = binary ? 1 : 0; i < args.length; i++) {
+            Path file = Paths.get(args[i]);
+            if (binary) {
+                reader.readBinary(file, stats);
+            } else {
+                reader.readText(file, stats);
+            }
+        }
+        System.out.print(stats);
+        System.out.println("Skipped lines: " + reader.getSkipped());
+    }
+}
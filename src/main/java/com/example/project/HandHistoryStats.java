@@ -0,0 +1,67 @@
+package com.example.project;
+
+/**
+ * Aggregate statistics over a stream of hands. Memory use is fixed: only counters per
+ * hand category and per starting hand class are kept, never the hands themselves.
+ */
+public class HandHistoryStats implements HandHistoryReader.HandListener {
+    private static final String[] CATEGORY_NAMES = {"High Card", "Pair", "Two Pair", "Three of a Kind",
+            "Straight", "Flush", "Full House", "Four of a Kind", "Straight Flush"};
+
+    private final long[] categoryCounts = new long[HandEvaluator.STRAIGHT_FLUSH + 1];
+    private final long[] winningCategories = new long[HandEvaluator.STRAIGHT_FLUSH + 1];
+    private final long[] classDealt = new long[StartingHand.CLASS_COUNT];
+    private final long[] classWins = new long[StartingHand.CLASS_COUNT];
+    private final long[] classTies = new long[StartingHand.CLASS_COUNT];
+    private long hands;
+    private long splitPots;
+
+    @Override
+    public void onHand(int[] holeCards, int players, int[] board, int boardCount, ShowdownResult showdown) {
+        for (int p = 0; p < players; p++) {
+            categoryCounts[HandEvaluator.getCategory(showdown.getStrength(p))]++;
+            int classIndex = StartingHand.classIndex(holeCards[2 * p], holeCards[2 * p + 1]);
+            classDealt[classIndex]++;
+            if (showdown.isWinner(p)) {
+                if (showdown.isSplitPot()) {
+                    classTies[classIndex]++;
+                } else {
+                    classWins[classIndex]++;
+                }
+            }
+        }
+        winningCategories[HandEvaluator.getCategory(showdown.getBestStrength())]++;
+        if (showdown.isSplitPot()) {
+            splitPots++;
+        }
+        hands++;
+    }
+
+    public long getHands() {return hands;}
+    public long getSplitPots() {return splitPots;}
+    public long getCategoryCount(int category) {return categoryCounts[category];}
+    public long getWinningCategoryCount(int category) {return winningCategories[category];}
+    public long getClassDealt(int classIndex) {return classDealt[classIndex];}
+    public long getClassWins(int classIndex) {return classWins[classIndex];}
+    public long getClassTies(int classIndex) {return classTies[classIndex];}
+
+    /**
+     * Share of showdowns a starting hand class won outright, in percent.
+     * @param classIndex The StartingHand class index.
+     * @return The win percentage, or 0 if the class was never dealt.
+     */
+    public double getWinPercentage(int classIndex) {
+        return classDealt[classIndex] == 0 ? 0 : 100.0 * classWins[classIndex] / classDealt[classIndex];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("Hands: ").append(hands).append(", split pots: ").append(splitPots).append('\n');
+        for (int category = 0; category < categoryCounts.length; category++) {
+            text.append(String.format("%-16s %12d made, %12d winning%n",
+                    CATEGORY_NAMES[category], categoryCounts[category], winningCategories[category]));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.project;
+
+/**
+ * A weighted range of hole cards: one weight from 0 to 1 for each of the 1326 two-card combos.
+ * Combo (c1, c2) with card codes c1 < c2 has index c2 * (c2 - 1) / 2 + c1.
+ *
+ * The text form is a comma-separated list of entries such as "QQ+", "22-55", "AKs", "AK"
+ * (suited and offsuit), "A2s+", "KTo+", "A5s-A2s" or "AhKh". An entry gets a weight below 1
+ * with a "50%" prefix or a ":0.5" suffix, e.g. "QQ+, AKs, 50% AJo".
+ */
+public class HandRange {
+    public static final int COMBO_COUNT = 1326;
+    private static final int[] FIRST_CARD = new int[COMBO_COUNT];
+    private static final int[] SECOND_CARD = new int[COMBO_COUNT];
+
+    static {
+        for (int c2 = 1; c2 < 52; c2++) {
+            for (int c1 = 0; c1 < c2; c1++) {
+                FIRST_CARD[comboIndex(c1, c2)] = c1;
+                SECOND_CARD[comboIndex(c1, c2)] = c2;
+            }
+        }
+    }
+
+    private final double[] weights = new double[COMBO_COUNT];
+
+    /**
+     * Index of two distinct cards, in either order.
+     * @param card1 First card code.
+     * @param card2 Second card code.
+     * @return The combo index (0..1325).
+     */
+    public static int comboIndex(int card1, int card2) {
+        int low = Math.min(card1, card2);
+        int high = Math.max(card1, card2);
+        return high * (high - 1) / 2 + low;
+    }
+
+    // The lower and the higher card code of a combo
+    public static int firstCard(int combo) {return FIRST_CARD[combo];}
+    public static int secondCard(int combo) {return SECOND_CARD[combo];}
+
+    /**
+     * Parses a range such as "QQ+, AKs, 50% AJo" ("50% of AJo" and "AJo:0.5" work too).
+     * @param text The range.
+     * @return The weighted range.
+     */
+    public static HandRange parse(String text) {
+        HandRange range = new HandRange();
+        for (String entry : text.split(",")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            double weight = 1;
+            try {
+                int percent = entry.indexOf('%');
+                int colon = entry.indexOf(':');
+                if (percent >= 0) {
+                    weight = Double.parseDouble(entry.substring(0, percent).trim()) / 100;
+                    entry = entry.substring(percent + 1).trim();
+                    if (entry.startsWith("of ")) { // "50% of AJo"
+                        entry = entry.substring(3).trim();
+                    }
+                } else if (colon >= 0) {
+                    weight = Double.parseDouble(entry.substring(colon + 1).trim());
+                    entry = entry.substring(0, colon).trim();
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in range entry: " + entry);
+            }
+            if (weight < 0 || weight > 1) {
+                throw new IllegalArgumentException("Weights must be between 0 and 1: " + entry);
+            }
+            range.addEntry(entry, weight);
+        }
+        return range;
+    }
+
+    private void addEntry(String entry, double weight) {
+        if (entry.length() == 4 && Utility.getSuitLetterIndex(entry.charAt(1)) >= 0
+                && Utility.getSuitLetterIndex(entry.charAt(3)) >= 0) {
+            int card1 = parseCard(entry, 0);
+            int card2 = parseCard(entry, 2);
+            if (card1 == card2) {
+                throw new IllegalArgumentException("Card used twice: " + entry);
+            }
+            weights[comboIndex(card1, card2)] = weight;
+            return;
+        }
+
+        int dash = entry.indexOf('-');
+        boolean plus = entry.endsWith("+");
+        String first = dash >= 0 ? entry.substring(0, dash) : plus ? entry.substring(0, entry.length() - 1) : entry;
+        int high = rank(first, 0, entry);
+        int low = rank(first, 1, entry);
+        String kinds = kinds(first, high == low, entry);
+        int fromLow = low;
+        int toLow = low;
+        if (dash >= 0) {
+            String last = entry.substring(dash + 1);
+            int lastHigh = rank(last, 0, entry);
+            int lastLow = rank(last, 1, entry);
+            if (high == low) {
+                if (lastHigh != lastLow) {
+                    throw new IllegalArgumentException("A pair range ends in a pair: " + entry);
+                }
+            } else if (lastHigh != high || !kinds(last, false, entry).equals(kinds)) {
+                throw new IllegalArgumentException("Both ends must share the high card and suitedness: " + entry);
+            }
+            fromLow = Math.min(low, lastLow);
+            toLow = Math.max(low, lastLow);
+        } else if (plus) {
+            toLow = high == low ? 12 : high - 1;
+        }
+
+        for (int r = fromLow; r <= toLow; r++) {
+            if (high == low) {
+                addClass(r * 13 + r, weight);
+                continue;
+            }
+            if (kinds.indexOf('s') >= 0) {
+                addClass(high * 13 + r, weight);
+            }
+            if (kinds.indexOf('o') >= 0) {
+                addClass(r * 13 + high, weight);
+            }
+        }
+    }
+
+    // The rank of the hand's first or second symbol; the first must be the higher one
+    private static int rank(String hand, int position, String entry) {
+        if (hand.length() < 2 || hand.length() > 3) {
+            throw new IllegalArgumentException("Invalid range entry: " + entry);
+        }
+        int rank = Utility.getRankSymbolIndex(hand.charAt(position));
+        if (rank < 0 || position == 1 && rank > Utility.getRankSymbolIndex(hand.charAt(0))) {
+            throw new IllegalArgumentException("Invalid range entry: " + entry);
+        }
+        return rank;
+    }
+
+    // Which of suited ("s") and offsuit ("o") combos a hand such as "AK", "AKs" or "QQ" covers
+    private static String kinds(String hand, boolean pair, String entry) {
+        if (hand.length() == 2) {
+            return pair ? "" : "so";
+        }
+        char kind = Character.toLowerCase(hand.charAt(2));
+        if (pair || kind != 's' && kind != 'o') {
+            throw new IllegalArgumentException("Invalid range entry: " + entry);
+        }
+        return String.valueOf(kind);
+    }
+
+    private static int parseCard(String entry, int position) {
+        int rank = Utility.getRankSymbolIndex(entry.charAt(position));
+        int suit = Utility.getSuitLetterIndex(entry.charAt(position + 1));
+        if (rank < 0 || suit < 0) {
+            throw new IllegalArgumentException("Invalid card in range entry: " + entry);
+        }
+        return rank * 4 + suit;
+    }
+
+    /**
+     * Gives every combo of a starting hand class the same weight.
+     * @param classIndex The StartingHand class index.
+     * @param weight The weight, from 0 to 1.
+     */
+    public void addClass(int classIndex, double weight) {
+        int high = StartingHand.highRank(classIndex);
+        int low = StartingHand.lowRank(classIndex);
+        boolean pair = StartingHand.isPair(classIndex);
+        boolean suited = StartingHand.isSuited(classIndex);
+        for (int s1 = 0; s1 < 4; s1++) {
+            for (int s2 = 0; s2 < 4; s2++) {
+                if (pair ? s2 <= s1 : suited != (s1 == s2)) {
+                    continue;
+                }
+                weights[comboIndex(high * 4 + s1, low * 4 + s2)] = weight;
+            }
+        }
+    }
+
+    public double getWeight(int combo) {return weights[combo];}
+
+    public void setWeight(int combo, double weight) {
+        if (weight < 0 || weight > 1) {
+            throw new IllegalArgumentException("Weights must be between 0 and 1");
+        }
+        weights[combo] = weight;
+    }
+
+    /**
+     * @return Number of combos with a weight above 0.
+     */
+    public int getComboCount() {
+        int count = 0;
+        for (double weight : weights) {
+            if (weight > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Sum of all weights, i.e. the number of combos the range amounts to.
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+}
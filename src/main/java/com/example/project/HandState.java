@@ -0,0 +1,129 @@
+package com.example.project;
+
+/**
+ * A hand that grows one card at a time, e.g. hole cards, then flop, turn and river.
+ * Adding or removing a card is a single bit operation on the same per-suit rank masks
+ * HandEvaluator uses, so rank counts, suit counts and rank masks are always current and the
+ * best-hand strength can be read at any street without re-evaluating from a card list.
+ */
+public class HandState {
+    private static final int MAX_CARDS = 7;
+
+    private long suits;     // HandEvaluator suit mask of the cards held
+    private int cardCount;
+    private int strength;   // Cached strength, valid when dirty is false
+    private boolean dirty = true;
+
+    public HandState() {
+    }
+
+    public HandState(HandState other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Adds a card.
+     * @param code The card code.
+     */
+    public void add(int code) {
+        long bit = bit(code);
+        if ((suits & bit) != 0) {
+            throw new IllegalArgumentException("Card already in hand: " + Card.of(code));
+        }
+        if (cardCount == MAX_CARDS) {
+            throw new IllegalStateException("A hand holds at most " + MAX_CARDS + " cards");
+        }
+        suits |= bit;
+        cardCount++;
+        dirty = true;
+    }
+
+    public void add(Card card) {
+        add(card.getCode());
+    }
+
+    /**
+     * Takes a card back out, e.g. to try the next candidate river card.
+     * @param code The card code.
+     */
+    public void remove(int code) {
+        long bit = bit(code);
+        if ((suits & bit) == 0) {
+            throw new IllegalArgumentException("Card not in hand: " + Card.of(code));
+        }
+        suits &= ~bit;
+        cardCount--;
+        dirty = true;
+    }
+
+    // suitBit does not check its argument: other codes would set bits of another suit or none
+    private static long bit(int code) {
+        if (code < 0 || code >= 52) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        return HandEvaluator.suitBit(code);
+    }
+
+    public void clear() {
+        suits = 0;
+        cardCount = 0;
+        dirty = true;
+    }
+
+    /**
+     * Makes this state hold the same cards as another one.
+     * @param other The state to copy.
+     */
+    public void copyFrom(HandState other) {
+        suits = other.suits;
+        cardCount = other.cardCount;
+        strength = other.strength;
+        dirty = other.dirty;
+    }
+
+    public boolean contains(int code) {
+        return (suits & HandEvaluator.suitBit(code)) != 0;
+    }
+
+    public int getCardCount() {return cardCount;}
+
+    // 13-bit mask of the ranks held in one suit
+    public int getSuitMask(int suitIndex) {
+        return (int) (suits >>> (suitIndex * 16)) & 0x1FFF;
+    }
+
+    // 13-bit mask of every rank held at least once
+    public int getRankMask() {
+        return getSuitMask(0) | getSuitMask(1) | getSuitMask(2) | getSuitMask(3);
+    }
+
+    public int getSuitCount(int suitIndex) {
+        return Integer.bitCount(getSuitMask(suitIndex));
+    }
+
+    public int getRankCount(int rankIndex) {
+        return (int) (suits >>> rankIndex & 1) + (int) (suits >>> (16 + rankIndex) & 1)
+                + (int) (suits >>> (32 + rankIndex) & 1) + (int) (suits >>> (48 + rankIndex) & 1);
+    }
+
+    /**
+     * Strength of the best hand in the cards held so far (see HandEvaluator).
+     * @return The hand strength.
+     */
+    public int getStrength() {
+        if (dirty) {
+            strength = HandEvaluator.evaluateSuitMask(suits);
+            dirty = false;
+        }
+        return strength;
+    }
+
+    public int getCategory() {
+        return HandEvaluator.getCategory(getStrength());
+    }
+
+    // The HandEvaluator suit mask, for combining with another state such as a shared board
+    long getSuits() {
+        return suits;
+    }
+}
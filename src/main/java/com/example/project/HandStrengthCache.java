@@ -0,0 +1,150 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of hand strengths in front of HandEvaluator.
+ *
+ * Keys are SuitIsomorphism.canonicalKey values: the four per-suit rank masks sorted, so every suit
+ * permutation of a hand (which always has the same strength) shares one entry. The table is
+ * 4-way set associative; each set evicts with the CLOCK algorithm. Lookups are lock-free reads
+ * of immutable entries, and hit/miss counters are LongAdders so threads do not contend on them.
+ */
+public class HandStrengthCache {
+    private static final int WAYS = 4;
+
+    private static final class Entry {
+        final long key;
+        final int strength;
+
+        Entry(long key, int strength) {
+            this.key = key;
+            this.strength = strength;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final byte[] referenced; // CLOCK reference bits; racy updates only cost hit rate
+    private final int[] clockHands;  // Next slot to consider for eviction, per set
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity Maximum number of cached hands (at least 1); rounded up to a power of two, and to at least 4.
+     */
+    public HandStrengthCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int rounded = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1; // Next power of two
+        if (rounded <= 0) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        int slots = Math.max(WAYS, rounded); // At least one set
+        entries = new AtomicReferenceArray<>(slots);
+        referenced = new byte[slots];
+        clockHands = new int[slots / WAYS];
+        setMask = slots / WAYS - 1;
+    }
+
+    /**
+     * Strength of a hand given as a HandEvaluator suit mask.
+     * @param suits The suit mask.
+     * @return The hand strength.
+     */
+    int getStrength(long suits) {
+        Metrics.recorder().evaluations(1); // Hits count too: the caller got a strength either way
+        long key = SuitIsomorphism.canonicalKey(suits);
+        int set = (int) (mix(key) & setMask) * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            Entry entry = entries.get(set + way);
+            if (entry != null && entry.key == key) {
+                if (referenced[set + way] == 0) {
+                    referenced[set + way] = 1;
+                }
+                hits.increment();
+                return entry.strength;
+            }
+        }
+        misses.increment();
+        int strength = HandEvaluator.evaluateSuitMask(suits);
+        insert(set, new Entry(key, strength));
+        return strength;
+    }
+
+    /**
+     * Strength of up to seven card codes.
+     * @param cards The card codes.
+     * @param offset Index of the first card.
+     * @param count Number of cards.
+     * @return The hand strength.
+     */
+    public int getStrength(int[] cards, int offset, int count) {
+        long suits = 0;
+        for (int i = offset; i < offset + count; i++) {
+            suits |= HandEvaluator.suitBit(cards[i]);
+        }
+        return getStrength(suits);
+    }
+
+    /**
+     * Strength of a player's hole cards together with the community cards.
+     * @param hand The hole cards.
+     * @param communityCards The shared community cards.
+     * @return The hand strength.
+     */
+    public int getStrength(ArrayList<Card> hand, ArrayList<Card> communityCards) {
+        long suits = 0;
+        for (Card card : hand) {
+            suits |= HandEvaluator.suitBit(card.getCode());
+        }
+        for (Card card : communityCards) {
+            suits |= HandEvaluator.suitBit(card.getCode());
+        }
+        return getStrength(suits);
+    }
+
+    private void insert(int set, Entry entry) {
+        for (int way = 0; way < WAYS; way++) {
+            if (entries.get(set + way) == null && entries.compareAndSet(set + way, null, entry)) {
+                return;
+            }
+        }
+        // CLOCK: clear reference bits until an entry that was not used since the last sweep is found
+        int hand = clockHands[set / WAYS];
+        for (int step = 0; step < 2 * WAYS; step++) {
+            int slot = set + (hand + step) % WAYS;
+            if (referenced[slot] != 0) {
+                referenced[slot] = 0;
+            } else {
+                entries.set(slot, entry);
+                clockHands[set / WAYS] = (hand + step + 1) % WAYS;
+                evictions.increment();
+                return;
+            }
+        }
+    }
+
+    // Spreads key bits so neighbouring hands land in different sets
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    public long getHits() {return hits.sum();}
+    public long getMisses() {return misses.sum();}
+    public long getEvictions() {return evictions.sum();}
+    public int getCapacity() {return entries.length();}
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
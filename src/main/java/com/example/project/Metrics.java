@@ -0,0 +1,19 @@
+package com.example.project;
+
+/**
+ * Holds the MetricsRecorder used by Deck, Showdown, Game, Simulation and the evaluation entry
+ * points listed on MetricsRecorder.evaluations.
+ */
+public class Metrics {
+    private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+    public static MetricsRecorder recorder() {return recorder;}
+
+    /**
+     * Installs a recorder for every thread; pass null to stop recording.
+     * @param recorder The recorder, or null for MetricsRecorder.NOOP.
+     */
+    public static void setRecorder(MetricsRecorder recorder) {
+        Metrics.recorder = recorder == null ? MetricsRecorder.NOOP : recorder;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.project;
+
+/**
+ * Receives events from the hot paths: deck shuffles, hand evaluations, showdowns and timed phases
+ * of a round. Every method does nothing by default, and NOOP is what Metrics hands out until a
+ * recorder is installed, so uninstrumented runs only pay for an empty call.
+ */
+public interface MetricsRecorder {
+    // Phases of a round, for phaseLatency
+    int PHASE_DEAL = 0;
+    int PHASE_EVALUATE = 1;
+    int PHASE_SHOWDOWN = 2;
+    int PHASE_COUNT = 3;
+
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        @Override
+        public boolean isEnabled() {return false;}
+    };
+
+    /**
+     * @return Whether events are recorded; callers skip timing work when false.
+     */
+    default boolean isEnabled() {return true;}
+
+    /**
+     * A deck was shuffled, fully or partially.
+     */
+    default void deckShuffled() {}
+
+    /**
+     * A showdown was evaluated: one hand evaluation per player.
+     * @param showdown The strengths and winners.
+     */
+    default void showdown(ShowdownResult showdown) {}
+
+    /**
+     * A heads-up showdown between two hands already recorded through evaluations, as in Game.play.
+     * Takes the strengths directly so the caller does not build a ShowdownResult.
+     * @param strength1 The first player's strength.
+     * @param strength2 The second player's strength.
+     */
+    default void headsUpShowdown(int strength1, int strength2) {}
+
+    /**
+     * Hands were evaluated outside a showdown: by Player, Game.determineWinner, BatchEvaluator,
+     * HandStrengthCache lookups, OutsAnalyzer or RangeEquity. Batches report once per call.
+     * @param count The number of hands.
+     */
+    default void evaluations(long count) {}
+
+    /**
+     * A phase of a round took the given time.
+     * @param phase One of the PHASE_ constants.
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    default void phaseLatency(int phase, long nanos) {}
+}
@@ -0,0 +1,97 @@
+package com.example.project;
+
+import java.util.ArrayList;
+
+/**
+ * Counts outs for a player on the flop or the turn: the unseen cards that lift the player's
+ * hand into a better category. Every candidate card is added to and removed from one
+ * HandState, so nothing is rebuilt or sorted per card.
+ */
+public class OutsAnalyzer {
+
+    /**
+     * Analyzes hole cards on a partial board.
+     * @param holeCards The player's two hole card codes.
+     * @param board The community card codes (3 or 4 cards).
+     * @param deadCards Card codes known not to come, e.g. folded or exposed cards.
+     * @return The outs and the improvement probabilities.
+     */
+    public static OutsResult analyze(int[] holeCards, int[] board, int[] deadCards) {
+        if (holeCards.length != 2) {
+            throw new IllegalArgumentException("Need exactly two hole cards");
+        }
+        if (board.length < 3 || board.length > 4) {
+            throw new IllegalArgumentException("Outs are counted on the flop or the turn");
+        }
+        HandState state = new HandState();
+        for (int code : holeCards) {
+            state.add(code);
+        }
+        for (int code : board) {
+            state.add(code);
+        }
+        long seen = 0;
+        for (int code = 0; code < 52; code++) {
+            if (state.contains(code)) {
+                seen |= 1L << code;
+            }
+        }
+        for (int code : deadCards) {
+            if (code < 0 || code >= 52 || (seen & (1L << code)) != 0) {
+                throw new IllegalArgumentException("Invalid or repeated dead card: " + code);
+            }
+            seen |= 1L << code;
+        }
+        int[] unseen = new int[52 - Long.bitCount(seen)];
+        int n = 0;
+        for (int code = 0; code < 52; code++) {
+            if ((seen & (1L << code)) == 0) {
+                unseen[n++] = code;
+            }
+        }
+
+        int category = state.getCategory();
+        OutsResult result = new OutsResult(state.getStrength(), unseen.length);
+        for (int code : unseen) {
+            state.add(code);
+            int next = state.getCategory();
+            if (next > category) {
+                result.addOut(code, next);
+            }
+            if (board.length == 4) {
+                result.addRunout(next);
+            }
+            state.remove(code);
+        }
+
+        // On the flop, also count every turn and river pair
+        if (board.length == 3) {
+            for (int i = 0; i < unseen.length; i++) {
+                state.add(unseen[i]);
+                for (int j = i + 1; j < unseen.length; j++) {
+                    state.add(unseen[j]);
+                    result.addRunout(state.getCategory());
+                    state.remove(unseen[j]);
+                }
+                state.remove(unseen[i]);
+            }
+        }
+        // The current hand, every next card, and on the flop every turn and river pair
+        long evaluations = 1 + unseen.length;
+        if (board.length == 3) {
+            evaluations += (long) unseen.length * (unseen.length - 1) / 2;
+        }
+        Metrics.recorder().evaluations(evaluations);
+        return result;
+    }
+
+    /**
+     * Analyzes a player's hole cards on a partial board.
+     * @param player The player; needs exactly two hole cards.
+     * @param communityCards The community cards (3 or 4 cards).
+     * @return The outs and the improvement probabilities.
+     */
+    public static OutsResult analyze(Player player, ArrayList<Card> communityCards) {
+        return analyze(EquityCalculator.codes(player.getHand()), EquityCalculator.codes(communityCards), new int[0]);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.project;
+
+import java.util.ArrayList;
+
+/**
+ * Outs of one hand and the chances of improving, from OutsAnalyzer. Categories are the
+ * HandEvaluator constants; "improving" means finishing in a better category than now.
+ */
+public class OutsResult {
+    private final int strength;
+    private final int unseen;
+    private final int[] outsByCategory = new int[HandEvaluator.STRAIGHT_FLUSH + 1];
+    private final long[] runoutsByCategory = new long[HandEvaluator.STRAIGHT_FLUSH + 1]; // Final category per runout
+    private long outMask;
+    private long runouts;
+
+    OutsResult(int strength, int unseen) {
+        this.strength = strength;
+        this.unseen = unseen;
+    }
+
+    void addOut(int code, int category) {
+        outMask |= 1L << code;
+        outsByCategory[category]++;
+    }
+
+    void addRunout(int category) {
+        runoutsByCategory[category]++;
+        runouts++;
+    }
+
+    public int getStrength() {return strength;}
+    public int getCategory() {return HandEvaluator.getCategory(strength);}
+    public int getUnseenCount() {return unseen;}
+
+    /**
+     * @return Number of cards that improve the hand on the next card.
+     */
+    public int getOuts() {return Long.bitCount(outMask);}
+
+    /**
+     * @param category A HandEvaluator category.
+     * @return Number of next cards that make exactly this category.
+     */
+    public int getOuts(int category) {return outsByCategory[category];}
+
+    /**
+     * @return The out cards as card codes, in code order.
+     */
+    public int[] getOutCodes() {
+        int[] codes = new int[getOuts()];
+        int n = 0;
+        for (long mask = outMask; mask != 0; mask &= mask - 1) {
+            codes[n++] = Long.numberOfTrailingZeros(mask);
+        }
+        return codes;
+    }
+
+    /**
+     * @return The out cards.
+     */
+    public ArrayList<Card> getOutCards() {
+        ArrayList<Card> cards = new ArrayList<>();
+        for (int code : getOutCodes()) {
+            cards.add(Card.of(code));
+        }
+        return cards;
+    }
+
+    /**
+     * @return Probability that the next card improves the hand.
+     */
+    public double getNextCardProbability() {
+        return unseen == 0 ? 0 : (double) getOuts() / unseen;
+    }
+
+    /**
+     * @return Probability that the hand has improved by the river, counted over every runout.
+     */
+    public double getRiverProbability() {
+        long improved = 0;
+        for (int category = getCategory() + 1; category < runoutsByCategory.length; category++) {
+            improved += runoutsByCategory[category];
+        }
+        return runouts == 0 ? 0 : (double) improved / runouts;
+    }
+
+    /**
+     * @param category A HandEvaluator category.
+     * @return Probability that the hand ends in exactly this category at the river.
+     */
+    public double getRiverProbability(int category) {
+        return runouts == 0 ? 0 : (double) runoutsByCategory[category] / runouts;
+    }
+
+    @Override
+    public String toString() {
+        return getOuts() + " outs (" + String.format("%.1f%%", 100 * getNextCardProbability()) + " next card, "
+                + String.format("%.1f%%", 100 * getRiverProbability()) + " by the river): " + getOutCards();
+    }
+}
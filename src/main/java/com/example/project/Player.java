@@ -6,8 +6,12 @@ import java.util.Collections;
 public class Player {
     private ArrayList<Card> hand;  // Stores the player's hand (2 cards in Texas Hold'em)
     private ArrayList<Card> allCards;  // Stores the player's hand + community cards for evaluation
+    private final ArrayList<Card> communityCards = new ArrayList<>();  // Copy of the last playHand call's community cards
+    private boolean allCardsStale;  // allCards is only rebuilt when it is asked for
     String[] suits = Utility.getSuits(); // Available suits from a utility class
     String[] ranks = Utility.getRanks(); // Available ranks from a utility class
+    private int handStrength;  // Strength of the last evaluated hand
+    private HandStrengthCache strengthCache;  // Optional cache shared between players, may be null
 
     // Constructor initializes the hand and allCards lists
     public Player() {
@@ -20,11 +24,25 @@ public class Player {
         return hand;
     }
 
-    // Getter method for all cards (hand + community cards)
+    // Getter method for all cards (hand + community cards of the last playHand call)
     public ArrayList<Card> getAllCards() {
+        if (allCardsStale) {
+            allCards.clear();
+            allCards.addAll(hand);
+            allCards.addAll(communityCards);
+            allCardsStale = false;
+        }
         return allCards;
     }
 
+    /**
+     * Routes hand evaluation through a cache; pass null to evaluate directly.
+     * @param strengthCache The cache, which may be shared with other players and threads.
+     */
+    public void setStrengthCache(HandStrengthCache strengthCache) {
+        this.strengthCache = strengthCache;
+    }
+
     // Adds a card to the player's hand
     public void addCard(Card c) {
         hand.add(c);
@@ -36,29 +54,41 @@ public class Player {
      * @return A string representing the best possible hand the player can form.
      */
     public String playHand(ArrayList<Card> communityCards) {
+        // allCards is not needed for evaluation; getAllCards() builds it on demand
+        this.communityCards.clear(); // Copied, so later changes to the caller's list do not leak in
+        this.communityCards.addAll(communityCards);
+        allCardsStale = true;
+
+        // One pass through the evaluator gives category and kickers together
+        if (strengthCache == null) {
+            handStrength = HandEvaluator.evaluate(hand, communityCards);
+            Metrics.recorder().evaluations(1);
+        } else {
+            handStrength = strengthCache.getStrength(hand, communityCards); // The cache counts its lookups
+        }
+        switch (HandEvaluator.getCategory(handStrength)) {
+            case HandEvaluator.STRAIGHT_FLUSH:
+                return HandEvaluator.isRoyalFlush(handStrength) ? "Royal Flush" : "Straight Flush";
+            case HandEvaluator.FOUR_OF_A_KIND: return "Four of a Kind";
+            case HandEvaluator.FULL_HOUSE: return "Full House";
+            case HandEvaluator.FLUSH: return "Flush";
+            case HandEvaluator.STRAIGHT: return "Straight";
+            case HandEvaluator.THREE_OF_A_KIND: return "Three of a Kind";
+            case HandEvaluator.TWO_PAIR: return "Two Pair";
+            case HandEvaluator.ONE_PAIR: return "A Pair";
+        }
+
+        // Check for High Card scenario: the lower hole card must beat three community cards
+        if (hand.isEmpty()) {
+            return "Nothing";
+        }
+        int lowestHoleRank = Integer.MAX_VALUE;
+        for (Card card : hand) {
+            lowestHoleRank = Math.min(lowestHoleRank, card.getRankValue());
+        }
         int count = 0;
-        allCards.clear();
-        allCards.addAll(hand);  // Add player's hand to the list
-        allCards.addAll(communityCards); // Add community cards
-        sortAllCards();  // Sort cards in ascending order
-
-        // Check hand rankings in descending order of strength
-        if (isRoyalFlush()) return "Royal Flush";
-        if (isStraightFlush()) return "Straight Flush";
-        if (isFourOfAKind()) return "Four of a Kind";
-        if (isFullHouse()) return "Full House";
-        if (isFlush()) return "Flush";
-        if (isStraight()) return "Straight";
-        if (isThreeOfAKind()) return "Three of a Kind";
-        if (isTwoPair()) return "Two Pair";
-        if (isPair()) return "A Pair";
-
-        // Check for High Card scenario
-        allCards.clear();
-        allCards.addAll(hand);
-        sortAllCards();
-        for (int i = 0; i < communityCards.size(); i++) {
-            if (allCards.get(0).getRankValue() > communityCards.get(i).getRankValue()) {
+        for (Card card : communityCards) {
+            if (lowestHoleRank > card.getRankValue()) {
                 count++;
             }
             if (count == 3) {
@@ -67,15 +97,17 @@ public class Player {
         }
 
         // If no valid hand is found, return "Nothing"
-        allCards.clear();
-        allCards.addAll(hand);
-        allCards.addAll(communityCards);
-        sortAllCards();
         return "Nothing";  
     }
 
+    // Strength of the hand found by the last playHand call (see HandEvaluator)
+    public int getHandStrength() {
+        return handStrength;
+    }
+
     // Sorts all the cards in ascending order based on rank value
     public void sortAllCards() {
+        ArrayList<Card> allCards = getAllCards();
         for (int i = 0; i < allCards.size() - 1; i++) {
             for (int j = 0; j < allCards.size() - i - 1; j++) {
                 if (allCards.get(j).getRankValue() > allCards.get(j + 1).getRankValue()) {
@@ -92,11 +124,9 @@ public class Player {
     // Calculates the frequency of each rank in the player's hand + community cards
     public ArrayList<Integer> findRankingFrequency() {
         ArrayList<Integer> frequency = new ArrayList<>(Collections.nCopies(ranks.length, 0));
-        for (Card card : allCards) {
-            int index = getRankIndex(card.getRank());
-            if (index != -1) {
-                frequency.set(index, frequency.get(index) + 1);
-            }
+        for (Card card : getAllCards()) {
+            int index = card.getRankIndex();
+            frequency.set(index, frequency.get(index) + 1);
         }
         return frequency;
     }
@@ -108,131 +138,22 @@ public ArrayList<Integer> findSuitFrequency() {
     for (int i = 0; i < suits.length; i++) {
         frequency.add(0);
     }
-    for (Card card : allCards) {
-        int index = getSuitIndex(card.getSuit());
-        if (index != -1) {
-            frequency.set(index, frequency.get(index) + 1);
-        }
+    for (Card card : getAllCards()) {
+        int index = card.getSuitIndex();
+        frequency.set(index, frequency.get(index) + 1);
     }
     return frequency;
 }
 
-    // Helper method to find the index of a rank in the ranks array
-    private int getRankIndex(String rank) {
-        for (int i = 0; i < ranks.length; i++) {
-            if (ranks[i].equals(rank)) {
-                return i;
-            }
-        }
-        return -1; // Rank not found
-    }
-
-    // Helper method to find the index of a suit in the suits array
-    private int getSuitIndex(String suit) {
-        for (int i = 0; i < suits.length; i++) {
-            if (suits[i].equals(suit)) {
-                return i;
-            }
-        }
-        return -1; // Suit not found
-    }
-
-    // Determines if the player has a Royal Flush (A, K, Q, J, 10 of the same suit)
-    private boolean isRoyalFlush() {
-        return isStraightFlush() && allCards.get(4).getRankValue() == 14;
-    }
-
-    // Determines if the player has a Straight Flush (Five consecutive cards of the same suit)
-    private boolean isStraightFlush() {
-        return isFlush() && isStraight();
-    }
-
-    // Determines if the player has Four of a Kind
-    private boolean isFourOfAKind() {
-        ArrayList<Integer> frequency = findRankingFrequency();
-    
-        for (int count : frequency) {
-            if (count == 4) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
-    // Determines if the player has a Full House (Three of a Kind + One Pair)
-    private boolean isFullHouse() {
-        ArrayList<Integer> frequency = findRankingFrequency();
-        return frequency.contains(3) && frequency.contains(2);
-    }
-
-    // Determines if the player has a Flush (Five cards of the same suit)
-    private boolean isFlush() {
-        for (int count : findSuitFrequency()) {
-            if (count >= 5) return true;
-        }
-        return false;
-    }
-
-    // Determines if the player has a Straight (Five consecutive rank values)
-    private boolean isStraight() {
-        int consecutiveCount = 1;
-        for (int i = 1; i < allCards.size(); i++) {
-            if (allCards.get(i).getRankValue() == allCards.get(i - 1).getRankValue() + 1) {
-                consecutiveCount++;
-            } else if (allCards.get(i).getRankValue() != allCards.get(i - 1).getRankValue()) {
-                consecutiveCount = 1;
-            }
-        }
-        return consecutiveCount >= 5;
-    }
-
-    // Determines if the player has Three of a Kind
-    private boolean isThreeOfAKind() {
-    ArrayList<Integer> frequency = findRankingFrequency();
-    
-    for (int count : frequency) {
-        if (count == 3) {
-            return true;
-        }
-    }
-    
-    return false;
-}
-
-
-    // Determines if the player has Two Pairs
-    private boolean isTwoPair() {
-        int pairCount = 0;
-        for (int count : findRankingFrequency()) {
-            if (count == 2) pairCount++;
-        }
-        return pairCount >= 2;
-    }
-
-    // Determines if the player has a Pair
-    private boolean isPair() {
-    ArrayList<Integer> frequency = findRankingFrequency();
-    
-    for (int count : frequency) {
-        if (count == 2) {
-            return true;
-        }
-    }
-    
-    return false;
-}
-
-
     // Returns all cards in the player's possession (hand + community cards)
     public ArrayList<Card> getCards() {
-        return allCards;
+        return getAllCards();
     }
 
-    // Adds a new card to the player's list of all cards
+    // Deals a hole card to the player
     public void receiveCard(Card card) {
         if (card != null) {
-            allCards.add(card);
+            hand.add(card);
         }
     }
 
@@ -0,0 +1,156 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Preflop equity of every starting hand class against 1 to N random opponents,
+ * precomputed once and read back through a memory-mapped file.
+ *
+ * File layout (big-endian): int magic "PFEQ", short version, short max opponents,
+ * then for each opponent count 1..max, 169 unsigned shorts holding equity / 100 * 65535
+ * in StartingHand class order. The heads-up table with all 169 entries is 338 bytes.
+ */
+public class PreflopEquityTable {
+    private static final int MAGIC = 0x50464551; // "PFEQ"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private final ByteBuffer data;
+    private final int maxOpponents;
+
+    private PreflopEquityTable(ByteBuffer data) {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a preflop equity table");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported preflop equity table version " + data.getShort(4));
+        }
+        maxOpponents = data.getShort(6);
+        if (data.capacity() != HEADER_SIZE + maxOpponents * StartingHand.CLASS_COUNT * 2) {
+            throw new IllegalArgumentException("Truncated preflop equity table");
+        }
+        this.data = data;
+    }
+
+    /**
+     * Maps a table file into memory; lookups read straight from the mapping.
+     * @param file The file written by generate.
+     * @return The table.
+     * @throws IOException If the file cannot be read.
+     */
+    public static PreflopEquityTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PreflopEquityTable(data);
+        }
+    }
+
+    /**
+     * Computes every class against 1..maxOpponents random hands and writes the table.
+     * Classes are computed in parallel, each from its own seeded deck, so the output
+     * only depends on the arguments. The file is replaced atomically, so a table that is
+     * already mapped keeps its old contents.
+     * @param file Where to write the table.
+     * @param maxOpponents Largest number of random opponents (1 to 9).
+     * @param trials Monte Carlo trials per class and opponent count.
+     * @param seed Base seed for the decks.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void generate(Path file, int maxOpponents, long trials, long seed) throws IOException {
+        if (maxOpponents < 1 || maxOpponents >= Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Opponents must be between 1 and " + (Showdown.MAX_PLAYERS - 1));
+        }
+        char[][] equities = new char[maxOpponents][StartingHand.CLASS_COUNT];
+        IntStream.range(0, StartingHand.CLASS_COUNT).parallel().forEach(classIndex -> {
+            EquityCalculator calculator = new EquityCalculator(seed + classIndex);
+            int[] representative = StartingHand.representative(classIndex);
+            for (int opponents = 1; opponents <= maxOpponents; opponents++) {
+                int[] hole = new int[2 * (opponents + 1)];
+                Arrays.fill(hole, EquityCalculator.UNKNOWN);
+                hole[0] = representative[0];
+                hole[1] = representative[1];
+                EquityResult result = calculator.calculate(hole, new int[0], new int[0], trials, 0);
+                equities[opponents - 1][classIndex] = (char) Math.round(result.getEquity(0) / 100 * 65535);
+            }
+        });
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + maxOpponents * StartingHand.CLASS_COUNT * 2);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) maxOpponents);
+        for (char[] table : equities) {
+            for (char equity : table) {
+                buffer.putChar(equity);
+            }
+        }
+        buffer.flip();
+        // Written beside the file and renamed, so a reader that has the old table mapped never sees it truncated
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Equity of a starting hand class against random opponents, in percent.
+     * @param classIndex The StartingHand class index.
+     * @param opponents Number of random opponents (1 to getMaxOpponents()).
+     * @return The equity percentage.
+     */
+    public double getEquity(int classIndex, int opponents) {
+        if (opponents < 1 || opponents > maxOpponents) {
+            throw new IllegalArgumentException("Table covers 1 to " + maxOpponents + " opponents");
+        }
+        if (classIndex < 0 || classIndex >= StartingHand.CLASS_COUNT) {
+            throw new IllegalArgumentException("Invalid starting hand class " + classIndex);
+        }
+        int offset = HEADER_SIZE + ((opponents - 1) * StartingHand.CLASS_COUNT + classIndex) * 2;
+        return data.getChar(offset) * 100.0 / 65535;
+    }
+
+    /**
+     * Equity of two hole cards against random opponents, in percent.
+     * @param card1 First hole card.
+     * @param card2 Second hole card.
+     * @param opponents Number of random opponents.
+     * @return The equity percentage.
+     */
+    public double getEquity(Card card1, Card card2, int opponents) {
+        return getEquity(StartingHand.classIndex(card1.getCode(), card2.getCode()), opponents);
+    }
+
+    public int getMaxOpponents() {
+        return maxOpponents;
+    }
+
+    /**
+     * Generates a table file: PreflopEquityTable file [maxOpponents] [trials] [seed]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: PreflopEquityTable <file> [maxOpponents] [trials] [seed]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int maxOpponents = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long trials = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        generate(file, maxOpponents, trials, seed);
+        System.out.println("Wrote " + Files.size(file) + " bytes to " + file);
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.project;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Equity of one weighted HandRange against another.
+ *
+ * Comparing every hero combo with every villain combo on every board costs 1326 x 1326 per
+ * board. Instead, on each board both ranges are evaluated once and sorted by strength; a single
+ * sweep then accumulates the villain weight below and up to each hero strength, together with
+ * the same sums per card. Card removal is handled by inclusion-exclusion: the villain weight
+ * compatible with hero combo (a, b) is the total minus the weight holding a, minus the weight
+ * holding b, plus the weight of villain combo (a, b) itself, which was removed twice.
+ *
+ * Boards are enumerated exactly when at most two cards are missing and sampled otherwise;
+ * either way the work is split over a ForkJoinPool.
+ */
+public class RangeEquity {
+    public static final long DEFAULT_SAMPLES = 50_000;     // Sampled boards when the caller does not say
+    private static final long ENUMERATION_LIMIT = 2_000;   // Largest number of runouts enumerated by default
+    private static final int LEAF_BOARDS = 16;             // Boards evaluated by a task without splitting further
+
+    private final ForkJoinPool pool;
+
+    public RangeEquity() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public RangeEquity(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the equity of hero's range against villain's range.
+     * @param hero The first range.
+     * @param villain The second range.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt or held.
+     * @param samples Boards to sample when there are too many runouts to enumerate.
+     * @param seed Seed for the sampled boards.
+     * @return The weighted win/tie counts for hero.
+     */
+    public RangeEquityResult calculate(HandRange hero, HandRange villain, int[] board, int[] deadCards, long samples, long seed) {
+        return calculate(hero, villain, board, deadCards, samples, seed, 0, boardCount(board, deadCards, samples));
+    }
+
+    /**
+     * Number of boards a calculation covers: every runout when there are few enough to
+     * enumerate, otherwise the samples.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt or held.
+     * @param samples Boards to sample when there are too many runouts to enumerate.
+     * @return The board count.
+     */
+    public static long boardCount(int[] board, int[] deadCards, long samples) {
+        long runouts = runouts(board, usedCards(board, deadCards));
+        return runouts <= ENUMERATION_LIMIT ? runouts : samples;
+    }
+
+    /**
+     * Computes boards fromBoard to toBoard - 1 of a calculation. Sampled board i is always
+     * drawn from trial i of a DealStream, so the results of consecutive ranges add up to the
+     * result of the whole calculation (up to floating-point rounding), e.g. when the ranges
+     * are computed by different processes (see ShardCoordinator).
+     * @param hero The first range.
+     * @param villain The second range.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt or held.
+     * @param samples Boards to sample when there are too many runouts to enumerate.
+     * @param seed Seed for the sampled boards.
+     * @param fromBoard First board to compute.
+     * @param toBoard Board after the last one to compute, at most boardCount.
+     * @return The weighted win/tie counts for hero on these boards.
+     */
+    public RangeEquityResult calculate(HandRange hero, HandRange villain, int[] board, int[] deadCards, long samples,
+                                       long seed, long fromBoard, long toBoard) {
+        long used = usedCards(board, deadCards);
+        long runouts = runouts(board, used);
+        boolean exact = runouts <= ENUMERATION_LIMIT;
+        if (fromBoard < 0 || toBoard < fromBoard || toBoard > (exact ? runouts : samples)) {
+            throw new IllegalArgumentException("Invalid board range " + fromBoard + " to " + toBoard);
+        }
+        double[] heroWeights = weights(hero, used);
+        double[] villainWeights = weights(villain, used);
+
+        int[] remaining = new int[52 - Long.bitCount(used)];
+        int n = 0;
+        for (int code = 0; code < 52; code++) {
+            if ((used & (1L << code)) == 0) {
+                remaining[n++] = code;
+            }
+        }
+        long knownBoard = 0;
+        for (int code : board) {
+            knownBoard |= HandEvaluator.suitBit(code);
+        }
+
+        Boards task = new Boards(heroWeights, villainWeights, remaining, 5 - board.length, knownBoard, exact, seed,
+                fromBoard, toBoard);
+        RangeEquityResult result = pool.invoke(task);
+        if (exact) {
+            result.markExact();
+        }
+        return result;
+    }
+
+    // The board and dead cards as a bit set, checking that they are valid and distinct
+    private static long usedCards(int[] board, int[] deadCards) {
+        if (board.length > 5) {
+            throw new IllegalArgumentException("A board has at most 5 cards");
+        }
+        long used = 0;
+        for (int code : board) {
+            used = mark(used, code);
+        }
+        for (int code : deadCards) {
+            used = mark(used, code);
+        }
+        return used;
+    }
+
+    private static long runouts(int[] board, long used) {
+        return EquityEnumerator.choose(52 - Long.bitCount(used), 5 - board.length);
+    }
+
+    private static long mark(long used, int code) {
+        if (code < 0 || code >= 52) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        if ((used & (1L << code)) != 0) {
+            throw new IllegalArgumentException("Card used twice: " + Card.of(code));
+        }
+        return used | 1L << code;
+    }
+
+    // The range's weights with every combo that holds a known card removed
+    private static double[] weights(HandRange range, long used) {
+        double[] weights = new double[HandRange.COMBO_COUNT];
+        for (int combo = 0; combo < weights.length; combo++) {
+            if ((used & (1L << HandRange.firstCard(combo) | 1L << HandRange.secondCard(combo))) == 0) {
+                weights[combo] = range.getWeight(combo);
+            }
+        }
+        return weights;
+    }
+
+    private static class Boards extends RecursiveTask<RangeEquityResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] heroWeights;
+        private final double[] villainWeights;
+        private final int[] remaining;
+        private final int missing;
+        private final long knownBoard;
+        private final boolean exact;
+        private final long seed;
+        private final long from;
+        private final long to;
+
+        Boards(double[] heroWeights, double[] villainWeights, int[] remaining, int missing, long knownBoard,
+               boolean exact, long seed, long from, long to) {
+            this.heroWeights = heroWeights;
+            this.villainWeights = villainWeights;
+            this.remaining = remaining;
+            this.missing = missing;
+            this.knownBoard = knownBoard;
+            this.exact = exact;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected RangeEquityResult compute() {
+            if (to - from > LEAF_BOARDS) {
+                long middle = (from + to) >>> 1;
+                Boards left = new Boards(heroWeights, villainWeights, remaining, missing, knownBoard, exact, seed, from, middle);
+                left.fork();
+                RangeEquityResult result = new Boards(heroWeights, villainWeights, remaining, missing, knownBoard, exact,
+                        seed, middle, to).compute();
+                result.add(left.join());
+                return result;
+            }
+
+            RangeEquityResult result = new RangeEquityResult();
+            Sweep sweep = new Sweep(heroWeights, villainWeights);
+            int[] positions = new int[missing];
+            long evaluations = 0;
+            // Every sampled board draws from its own trial, so the result does not depend on how boards are split
+            DealStream random = new DealStream(seed);
+            if (exact) {
+                EquityEnumerator.unrank(from, remaining.length, missing, positions);
+            }
+            for (long index = from; index < to; index++) {
+                long boardCards = 0; // Card bits, to drop combos that hold a board card
+                long boardMask = knownBoard;
+                for (int i = 0; i < missing; i++) {
+                    int code;
+                    if (exact) {
+                        code = remaining[positions[i]];
+                    } else {
+                        if (i == 0) {
+                            random.seek(index);
+                        }
+                        do {
+                            code = remaining[random.nextInt(remaining.length)];
+                        } while ((boardCards & (1L << code)) != 0);
+                    }
+                    boardCards |= 1L << code;
+                    boardMask |= HandEvaluator.suitBit(code);
+                }
+                evaluations += sweep.run(boardMask, boardCards, result);
+                if (exact) {
+                    EquityEnumerator.nextCombination(positions, remaining.length, missing);
+                }
+            }
+            Metrics.recorder().evaluations(evaluations);
+            return result;
+        }
+    }
+
+    // Per-board work buffers for one thread
+    private static class Sweep {
+        private final double[] heroWeights;
+        private final double[] villainWeights;
+        private final long[] heroKeys = new long[HandRange.COMBO_COUNT];    // strength << 32 | combo
+        private final long[] villainKeys = new long[HandRange.COMBO_COUNT];
+        private final double[] belowByCard = new double[52];
+        private final double[] uptoByCard = new double[52];
+        private final double[] villainByCard = new double[52];
+
+        Sweep(double[] heroWeights, double[] villainWeights) {
+            this.heroWeights = heroWeights;
+            this.villainWeights = villainWeights;
+        }
+
+        // Returns the number of hands evaluated
+        int run(long boardMask, long boardCards, RangeEquityResult result) {
+            int heroCount = sortedKeys(heroWeights, boardMask, boardCards, heroKeys);
+            int villainCount = sortedKeys(villainWeights, boardMask, boardCards, villainKeys);
+            Arrays.fill(belowByCard, 0);
+            Arrays.fill(uptoByCard, 0);
+            Arrays.fill(villainByCard, 0);
+            double villainTotal = 0;
+            for (int i = 0; i < villainCount; i++) {
+                int combo = (int) villainKeys[i];
+                double weight = villainWeights[combo];
+                villainTotal += weight;
+                villainByCard[HandRange.firstCard(combo)] += weight;
+                villainByCard[HandRange.secondCard(combo)] += weight;
+            }
+
+            double below = 0;
+            double upto = 0;
+            int belowIndex = 0;
+            int uptoIndex = 0;
+            double wins = 0;
+            double ties = 0;
+            double matchups = 0;
+            for (int i = 0; i < heroCount; i++) {
+                int strength = (int) (heroKeys[i] >>> 32);
+                int combo = (int) heroKeys[i];
+                while (belowIndex < villainCount && (int) (villainKeys[belowIndex] >>> 32) < strength) {
+                    int villainCombo = (int) villainKeys[belowIndex++];
+                    double weight = villainWeights[villainCombo];
+                    below += weight;
+                    belowByCard[HandRange.firstCard(villainCombo)] += weight;
+                    belowByCard[HandRange.secondCard(villainCombo)] += weight;
+                }
+                while (uptoIndex < villainCount && (int) (villainKeys[uptoIndex] >>> 32) <= strength) {
+                    int villainCombo = (int) villainKeys[uptoIndex++];
+                    double weight = villainWeights[villainCombo];
+                    upto += weight;
+                    uptoByCard[HandRange.firstCard(villainCombo)] += weight;
+                    uptoByCard[HandRange.secondCard(villainCombo)] += weight;
+                }
+                int a = HandRange.firstCard(combo);
+                int b = HandRange.secondCard(combo);
+                // Villain's copy of the same combo has the same strength, so it is never below
+                double same = villainWeights[combo];
+                double compatibleBelow = below - belowByCard[a] - belowByCard[b];
+                double compatibleUpto = upto - uptoByCard[a] - uptoByCard[b] + same;
+                double compatible = villainTotal - villainByCard[a] - villainByCard[b] + same;
+                double weight = heroWeights[combo];
+                wins += weight * compatibleBelow;
+                ties += weight * (compatibleUpto - compatibleBelow);
+                matchups += weight * compatible;
+            }
+            result.record(wins, ties, matchups);
+            return heroCount + villainCount;
+        }
+
+        // Evaluates every weighted combo that avoids the board, sorted by strength
+        private static int sortedKeys(double[] weights, long boardMask, long boardCards, long[] keys) {
+            int count = 0;
+            for (int combo = 0; combo < weights.length; combo++) {
+                int a = HandRange.firstCard(combo);
+                int b = HandRange.secondCard(combo);
+                if (weights[combo] == 0 || (boardCards & (1L << a | 1L << b)) != 0) {
+                    continue;
+                }
+                int strength = HandEvaluator.evaluateSuitMask(boardMask | HandEvaluator.suitBit(a) | HandEvaluator.suitBit(b));
+                keys[count++] = (long) strength << 32 | combo;
+            }
+            Arrays.sort(keys, 0, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.project;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Weighted outcome of a RangeEquity calculation from the first range's point of view.
+ * Every hero combo, villain combo and board that share no card is one matchup, counted
+ * with the product of the two combo weights.
+ */
+public class RangeEquityResult {
+    private double wins;
+    private double ties;
+    private double matchups;
+    private long boards;
+    private boolean exact; // Every possible board was counted, so there is no sampling error
+
+    /**
+     * Records the weighted totals of one board.
+     */
+    void record(double boardWins, double boardTies, double boardMatchups) {
+        wins += boardWins;
+        ties += boardTies;
+        matchups += boardMatchups;
+        boards++;
+    }
+
+    /**
+     * Adds the totals of another result for the same ranges into this one.
+     * @param other The result to merge.
+     */
+    void add(RangeEquityResult other) {
+        wins += other.wins;
+        ties += other.ties;
+        matchups += other.matchups;
+        boards += other.boards;
+    }
+
+    /**
+     * Writes the totals, e.g. from a ShardWorker.
+     * @param out The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeDouble(wins);
+        out.writeDouble(ties);
+        out.writeDouble(matchups);
+        out.writeLong(boards);
+        out.writeBoolean(exact);
+    }
+
+    /**
+     * Reads totals written by write.
+     * @param in The stream to read from.
+     * @return The totals.
+     * @throws IOException If reading fails.
+     */
+    static RangeEquityResult read(DataInput in) throws IOException {
+        RangeEquityResult result = new RangeEquityResult();
+        result.wins = in.readDouble();
+        result.ties = in.readDouble();
+        result.matchups = in.readDouble();
+        result.boards = in.readLong();
+        result.exact = in.readBoolean();
+        return result;
+    }
+
+    void markExact() {
+        exact = true;
+    }
+
+    public boolean isExact() {return exact;}
+    public long getBoards() {return boards;}
+    public double getMatchups() {return matchups;}
+
+    public double getWinPercentage() {
+        return matchups == 0 ? 0 : 100.0 * wins / matchups;
+    }
+
+    public double getTiePercentage() {
+        return matchups == 0 ? 0 : 100.0 * ties / matchups;
+    }
+
+    /**
+     * Share of the pot the first range wins, counting a tie as half, in percent.
+     * @return The equity percentage; the second range has 100 minus this.
+     */
+    public double getEquity() {
+        return matchups == 0 ? 0 : 100.0 * (wins + ties / 2) / matchups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Equity %.2f%% (win %.2f%%, tie %.2f%%) over %d boards%s",
+                getEquity(), getWinPercentage(), getTiePercentage(), boards, exact ? ", exact" : "");
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed HandEvaluator strengths for 5 to 7 cards, read from a memory-mapped file.
+ *
+ * Rather than one entry per card combination, the table has two levels: a flush table indexed
+ * by the 13-bit rank mask of the suit holding five or more cards, and for every other hand an
+ * entry per rank-count vector (how many cards of each rank, at most four). Rank-count vectors
+ * with n cards are numbered densely in lexicographic order, so 7 cards need only 49,205 entries
+ * and the whole file is about 330 KB; finding an entry takes one table load per rank.
+ *
+ * File layout (big-endian): int magic "RKTB", short version, short 0, then the 8192 flush
+ * strengths and the strengths of the 5, 6 and 7 card rank-count vectors, all as ints.
+ */
+public class RankTable {
+    private static final int MAGIC = 0x524B5442; // "RKTB"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RANKS = 13;
+    private static final int MIN_CARDS = 5;
+    private static final int MAX_CARDS = 7;
+    private static final int FLUSH_ENTRIES = 1 << RANKS;
+
+    private static final int[][] WAYS = new int[RANKS + 1][MAX_CARDS + 1];     // Vectors over ranks r..12 with n cards
+    private static final int[][][] PREFIX = new int[RANKS][MAX_CARDS + 1][5]; // Vectors skipped by giving rank r c cards
+    private static final int[] SECTION = new int[MAX_CARDS + 2];              // First entry of each card count
+
+    static {
+        WAYS[RANKS][0] = 1;
+        for (int r = RANKS - 1; r >= 0; r--) {
+            for (int n = 0; n <= MAX_CARDS; n++) {
+                for (int c = 0; c <= 4 && c <= n; c++) {
+                    WAYS[r][n] += WAYS[r + 1][n - c];
+                }
+            }
+        }
+        for (int r = 0; r < RANKS; r++) {
+            for (int n = 0; n <= MAX_CARDS; n++) {
+                for (int c = 1; c <= 4; c++) {
+                    PREFIX[r][n][c] = PREFIX[r][n][c - 1] + (n - c + 1 >= 0 ? WAYS[r + 1][n - c + 1] : 0);
+                }
+            }
+        }
+        SECTION[MIN_CARDS] = FLUSH_ENTRIES;
+        for (int n = MIN_CARDS; n <= MAX_CARDS; n++) {
+            SECTION[n + 1] = SECTION[n] + WAYS[0][n];
+        }
+    }
+
+    private final ByteBuffer data;
+
+    private RankTable(ByteBuffer data) {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a rank table");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported rank table version " + data.getShort(4));
+        }
+        if (data.capacity() != HEADER_SIZE + SECTION[MAX_CARDS + 1] * 4) {
+            throw new IllegalArgumentException("Truncated rank table");
+        }
+        this.data = data;
+    }
+
+    /**
+     * Maps a table file into memory; lookups read straight from the mapping.
+     * @param file The file written by generate.
+     * @return The table.
+     * @throws IOException If the file cannot be read.
+     */
+    public static RankTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new RankTable(data);
+        }
+    }
+
+    /**
+     * Maps the table file, writing it first if it does not exist yet.
+     * @param file The table file.
+     * @return The table.
+     * @throws IOException If the file cannot be written or read.
+     */
+    public static RankTable loadOrGenerate(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            generate(file);
+        }
+        return load(file);
+    }
+
+    /**
+     * Computes every entry with HandEvaluator and writes the table. The file is replaced
+     * atomically: it either keeps its old contents or holds the whole new table.
+     * @param file Where to write the table.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void generate(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + SECTION[MAX_CARDS + 1] * 4);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        for (int ranks = 0; ranks < FLUSH_ENTRIES; ranks++) {
+            // Masks with fewer than five ranks are never looked up
+            buffer.putInt(Integer.bitCount(ranks) < MIN_CARDS ? 0 : HandEvaluator.evaluateSuitMask(ranks));
+        }
+        for (int n = MIN_CARDS; n <= MAX_CARDS; n++) {
+            fillSection(buffer, HEADER_SIZE + SECTION[n] * 4, new int[RANKS], 0, n);
+        }
+        buffer.position(buffer.capacity());
+        buffer.flip();
+        // Written beside the file and renamed, so a reader (or a racing loadOrGenerate) never maps a partial table
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Visits every rank-count vector with the given number of cards left, in index order
+    private static void fillSection(ByteBuffer buffer, int base, int[] counts, int rank, int left) {
+        if (rank == RANKS) {
+            if (left == 0) {
+                buffer.putInt(base + index(counts) * 4, strength(counts));
+            }
+            return;
+        }
+        for (int c = 0; c <= 4 && c <= left; c++) {
+            counts[rank] = c;
+            fillSection(buffer, base, counts, rank + 1, left - c);
+        }
+        counts[rank] = 0;
+    }
+
+    // Dense lexicographic index of a rank-count vector among those with the same number of cards
+    private static int index(int[] counts) {
+        int n = 0;
+        for (int count : counts) {
+            n += count;
+        }
+        int index = 0;
+        for (int r = 0; r < RANKS; r++) {
+            index += PREFIX[r][n][counts[r]];
+            n -= counts[r];
+        }
+        return index;
+    }
+
+    // Strength of a hand with these rank counts, dealing suits in turn so no suit can make a flush
+    private static int strength(int[] counts) {
+        long suits = 0;
+        int suit = 0;
+        for (int r = 0; r < RANKS; r++) {
+            for (int c = 0; c < counts[r]; c++) {
+                suits |= 1L << (suit * 16 + r);
+                suit = (suit + 1) % 4;
+            }
+        }
+        return HandEvaluator.evaluateSuitMask(suits);
+    }
+
+    /**
+     * Looks up the strength of 5 to 7 cards; the result equals HandEvaluator.evaluate.
+     * @param cards The card codes.
+     * @param offset Index of the first card.
+     * @param count Number of cards (5 to 7).
+     * @return The hand strength.
+     */
+    public int evaluate(int[] cards, int offset, int count) {
+        if (count < MIN_CARDS || count > MAX_CARDS) {
+            throw new IllegalArgumentException("The rank table covers 5 to 7 cards");
+        }
+        long suits = 0;
+        long rankCounts = 0; // One nibble per rank
+        for (int i = offset; i < offset + count; i++) {
+            suits |= HandEvaluator.suitBit(cards[i]);
+            rankCounts += 1L << (Card.rankOf(cards[i]) * 4);
+        }
+        for (int suit = 0; suit < 4; suit++) {
+            int ranks = (int) (suits >>> (suit * 16)) & 0x1FFF;
+            if (Integer.bitCount(ranks) >= MIN_CARDS) {
+                return data.getInt(HEADER_SIZE + ranks * 4);
+            }
+        }
+        int index = 0;
+        int n = count;
+        for (int r = 0; r < RANKS; r++) {
+            int c = (int) (rankCounts >>> (r * 4)) & 0xF;
+            index += PREFIX[r][n][c];
+            n -= c;
+        }
+        return data.getInt(HEADER_SIZE + (SECTION[count] + index) * 4);
+    }
+
+    /**
+     * Number of rank-count entries for hands of the given size, e.g. 49,205 for 7 cards.
+     * @param cards Number of cards (5 to 7).
+     * @return The entry count.
+     */
+    public static int getRankEntryCount(int cards) {
+        return WAYS[0][cards];
+    }
+
+    /**
+     * Writes a table file: RankTable file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: RankTable <file>");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        generate(file);
+        System.out.println("Wrote " + Files.size(file) + " bytes to " + file);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read side of a columnar store of showdown results, written by ResultStoreWriter.
+ *
+ * A store is a directory with one file per column, each row being one table:
+ * hole.col      one short per seat, the HandRange combo index of the seat's hole cards
+ * board.col     one int, the five board card codes packed into 6 bits each (see packBoard)
+ * category.col  one byte, the HandEvaluator category of the winning hand
+ * winners.col   one short, the ShowdownResult winner mask
+ * Every file starts with an 8-byte header: int magic "RSCL", short version, short players.
+ * A row exists once it is in every column, so a torn append only loses its last rows.
+ *
+ * Columns are memory-mapped (up to 2 GB each) and aggregations scan only the columns they
+ * need, sequentially, without decoding whole rows.
+ */
+public class ResultStore {
+    static final int MAGIC = 0x5253434C; // "RSCL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final String HOLE = "hole.col";
+    static final String BOARD = "board.col";
+    static final String CATEGORY = "category.col";
+    static final String WINNERS = "winners.col";
+
+    // Board textures: a bit set of the features below, 0 for a dry board
+    public static final int PAIRED = 1;     // Two cards or more share a rank
+    public static final int SUITED = 2;     // Three cards or more share a suit: a flush is possible
+    public static final int CONNECTED = 4;  // Three ranks fit in a straight: a straight is possible
+    public static final int TEXTURE_COUNT = 8;
+
+    private static final byte[] STRAIGHT_POSSIBLE = new byte[1 << 13]; // By rank mask
+    private static final short[] CLASS_OF_COMBO = new short[HandRange.COMBO_COUNT];
+
+    static {
+        for (int ranks = 0; ranks < STRAIGHT_POSSIBLE.length; ranks++) {
+            long withWheelAce = (long) ranks << 1 | ranks >>> 12 & 1; // Bit 0 is the ace playing low
+            for (int low = 0; low <= 9; low++) {
+                if (Long.bitCount(withWheelAce >>> low & 0x1F) >= 3) {
+                    STRAIGHT_POSSIBLE[ranks] = 1;
+                }
+            }
+        }
+        for (int combo = 0; combo < HandRange.COMBO_COUNT; combo++) {
+            CLASS_OF_COMBO[combo] = (short) StartingHand.classIndex(HandRange.firstCard(combo), HandRange.secondCard(combo));
+        }
+    }
+
+    private final int players;
+    private final int rows;
+    private final ShortBuffer hole;
+    private final IntBuffer board;
+    private final ByteBuffer category;
+    private final ShortBuffer winners;
+
+    private ResultStore(int players, int rows, ByteBuffer hole, ByteBuffer board, ByteBuffer category, ByteBuffer winners) {
+        this.players = players;
+        this.rows = rows;
+        this.hole = hole.asShortBuffer();
+        this.board = board.asIntBuffer();
+        this.category = category;
+        this.winners = winners.asShortBuffer();
+    }
+
+    /**
+     * Maps a store's columns into memory. Rows appended later are not visible.
+     * @param directory The store's directory.
+     * @return The store.
+     * @throws IOException If there is no store, or a column is corrupt or cannot be read.
+     */
+    public static ResultStore open(Path directory) throws IOException {
+        int players = 0;
+        long rows = Long.MAX_VALUE;
+        String[] names = {HOLE, BOARD, CATEGORY, WINNERS};
+        for (String name : names) {
+            int columnPlayers = readPlayers(directory.resolve(name));
+            if (columnPlayers == 0) {
+                rows = 0; // A column without a header holds no rows yet
+                continue;
+            }
+            if (players != 0 && columnPlayers != players) {
+                throw new IOException("Columns disagree on the player count: " + directory.resolve(name));
+            }
+            players = columnPlayers;
+            rows = Math.min(rows, committedRows(directory.resolve(name), rowSize(name, players)));
+        }
+        if (players == 0) {
+            throw new IOException("Not a result store: " + directory);
+        }
+        if (rows * rowSize(HOLE, players) > Integer.MAX_VALUE) {
+            throw new IOException("Store has too many rows to map: " + rows);
+        }
+        return new ResultStore(players, (int) rows, map(directory.resolve(HOLE), rows * rowSize(HOLE, players)),
+                map(directory.resolve(BOARD), rows * 4), map(directory.resolve(CATEGORY), rows),
+                map(directory.resolve(WINNERS), rows * 2));
+    }
+
+    // Bytes per row of a column
+    static int rowSize(String column, int players) {
+        switch (column) {
+            case HOLE: return 2 * players;
+            case BOARD: return 4;
+            case CATEGORY: return 1;
+            default: return 2;
+        }
+    }
+
+    // The player count in a column's header, or 0 if the column is missing or its header was never fully written
+    static int readPlayers(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a result store column: " + file);
+            }
+            if (header.getShort(4) != VERSION) {
+                throw new IOException("Unsupported result store version " + header.getShort(4) + ": " + file);
+            }
+            int players = header.getShort(6);
+            if (players < 2 || players > Showdown.MAX_PLAYERS) {
+                throw new IOException("Invalid player count " + players + ": " + file);
+            }
+            return players;
+        }
+    }
+
+    // Whole rows in a column file
+    static long committedRows(Path file, int rowSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return (channel.size() - HEADER_SIZE) / rowSize;
+        }
+    }
+
+    // The rows of a column, without its header
+    private static ByteBuffer map(Path file, long size) throws IOException {
+        if (size == 0) {
+            return ByteBuffer.allocate(0); // The column may not exist
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, size);
+        }
+    }
+
+    /**
+     * Packs five board cards into an int, 6 bits each, first card lowest.
+     * @param board Five card codes.
+     * @return The packed board.
+     */
+    public static int packBoard(int[] board) {
+        int packed = 0;
+        for (int i = 4; i >= 0; i--) {
+            packed = packed << 6 | board[i];
+        }
+        return packed;
+    }
+
+    /**
+     * @param packedBoard A board packed by packBoard.
+     * @param index Which card (0 to 4).
+     * @return The card code.
+     */
+    public static int boardCard(int packedBoard, int index) {
+        return packedBoard >>> (6 * index) & 0x3F;
+    }
+
+    /**
+     * Classifies a board by the hands it makes possible.
+     * @param packedBoard A board packed by packBoard.
+     * @return A combination of PAIRED, SUITED and CONNECTED.
+     */
+    public static int boardTexture(int packedBoard) {
+        int ranks = 0;
+        int suitCounts = 0; // One nibble per suit
+        for (int i = 0; i < 5; i++) {
+            int code = packedBoard & 0x3F;
+            ranks |= 1 << Card.rankOf(code);
+            suitCounts += 1 << (Card.suitOf(code) * 4);
+            packedBoard >>>= 6;
+        }
+        // A nibble of 3 or more has bit 1 and bit 0 set, or bit 2 set
+        boolean suited = ((suitCounts >>> 1 & suitCounts | suitCounts >>> 2) & 0x1111) != 0;
+        return (Integer.bitCount(ranks) < 5 ? PAIRED : 0) | (suited ? SUITED : 0)
+                | (STRAIGHT_POSSIBLE[ranks] != 0 ? CONNECTED : 0);
+    }
+
+    /**
+     * Number of hands of each starting hand class dealt, over all seats.
+     * @return Counts indexed by StartingHand class index.
+     */
+    public long[] countByStartingHand() {
+        long[] dealt = new long[StartingHand.CLASS_COUNT];
+        for (int i = 0, n = rows * players; i < n; i++) {
+            dealt[CLASS_OF_COMBO[hole.get(i)]]++;
+        }
+        return dealt;
+    }
+
+    /**
+     * The share of pots won by each starting hand class, a split pot counting as an equal part.
+     * @return Win rates indexed by StartingHand class index; NaN for classes never dealt.
+     */
+    public double[] winRateByStartingHand() {
+        long[] dealt = new long[StartingHand.CLASS_COUNT];
+        double[] won = new double[StartingHand.CLASS_COUNT];
+        int i = 0;
+        for (int row = 0; row < rows; row++) {
+            int mask = winners.get(row);
+            double share = 1.0 / Integer.bitCount(mask);
+            for (int seat = 0; seat < players; seat++, i++) {
+                int classIndex = CLASS_OF_COMBO[hole.get(i)];
+                dealt[classIndex]++;
+                if ((mask & (1 << seat)) != 0) {
+                    won[classIndex] += share;
+                }
+            }
+        }
+        for (int classIndex = 0; classIndex < won.length; classIndex++) {
+            won[classIndex] = dealt[classIndex] == 0 ? Double.NaN : won[classIndex] / dealt[classIndex];
+        }
+        return won;
+    }
+
+    /**
+     * How often each category wins, per board texture.
+     * @return Counts indexed by texture (see boardTexture), then HandEvaluator category.
+     */
+    public long[][] categoryFrequencyByTexture() {
+        long[][] counts = new long[TEXTURE_COUNT][HandEvaluator.STRAIGHT_FLUSH + 1];
+        for (int row = 0; row < rows; row++) {
+            counts[boardTexture(board.get(row))][category.get(row)]++;
+        }
+        return counts;
+    }
+
+    public int getRows() {return rows;}
+    public int getPlayerCount() {return players;}
+
+    /**
+     * @return The HandRange combo index of a seat's hole cards.
+     */
+    public int getHoleCombo(int row, int seat) {return hole.get(row * players + seat);}
+
+    /**
+     * @return The board packed by packBoard.
+     */
+    public int getBoard(int row) {return board.get(row);}
+
+    /**
+     * @return The HandEvaluator category of the winning hand.
+     */
+    public int getCategory(int row) {return category.get(row);}
+
+    public int getWinnerMask(int row) {return winners.get(row);}
+}
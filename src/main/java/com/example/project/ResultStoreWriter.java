@@ -0,0 +1,176 @@
+package com.example.project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Appends showdown results to a ResultStore directory, creating it if needed. Rows are
+ * buffered per column and written in batches; reopening an existing store continues after its
+ * last complete row. Not thread-safe: use one writer per store.
+ */
+public class ResultStoreWriter implements Closeable {
+    private static final int BATCH_ROWS = 4096;
+    private static final String[] COLUMNS = {ResultStore.HOLE, ResultStore.BOARD, ResultStore.CATEGORY, ResultStore.WINNERS};
+
+    private final int players;
+    private final FileChannel[] channels = new FileChannel[COLUMNS.length];
+    private final ByteBuffer[] buffers = new ByteBuffer[COLUMNS.length];
+    private final int[] holeCodes; // Reused by append(ArrayList<Player>, ...)
+    private final int[] boardCodes = new int[5];
+    private long rows;
+
+    /**
+     * Opens a store for appending.
+     * @param directory The store's directory.
+     * @param players Seats per table; must match an existing store.
+     * @throws IOException If the store cannot be created or does not match.
+     */
+    public ResultStoreWriter(Path directory, int players) throws IOException {
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A table seats 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        this.players = players;
+        holeCodes = new int[2 * players];
+        Files.createDirectories(directory);
+        // A column that is missing or has no complete header (e.g. after a crash while creating the store) holds no rows
+        boolean[] hasHeader = new boolean[COLUMNS.length];
+        rows = Long.MAX_VALUE;
+        for (int c = 0; c < COLUMNS.length; c++) {
+            Path file = directory.resolve(COLUMNS[c]);
+            int columnPlayers = ResultStore.readPlayers(file);
+            if (columnPlayers == 0) {
+                rows = 0;
+                continue;
+            }
+            if (columnPlayers != players) {
+                throw new IOException("Store has a different player count: " + file);
+            }
+            hasHeader[c] = true;
+            rows = Math.min(rows, ResultStore.committedRows(file, ResultStore.rowSize(COLUMNS[c], players)));
+        }
+        try {
+            for (int c = 0; c < COLUMNS.length; c++) {
+                int rowSize = ResultStore.rowSize(COLUMNS[c], players);
+                channels[c] = FileChannel.open(directory.resolve(COLUMNS[c]), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                buffers[c] = ByteBuffer.allocate(BATCH_ROWS * rowSize);
+                if (!hasHeader[c]) {
+                    ByteBuffer header = ByteBuffer.allocate(ResultStore.HEADER_SIZE);
+                    header.putInt(ResultStore.MAGIC).putShort(ResultStore.VERSION).putShort((short) players).flip();
+                    while (header.hasRemaining()) {
+                        channels[c].write(header, header.position());
+                    }
+                }
+                // Drops a torn last append, so every column ends at the same row
+                long end = ResultStore.HEADER_SIZE + rows * rowSize;
+                channels[c].truncate(end);
+                channels[c].position(end);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends one table.
+     * @param holeCards Two card codes per seat.
+     * @param board The five board card codes.
+     * @param showdown The table's showdown.
+     * @throws IOException If a full batch cannot be written.
+     */
+    public void append(int[] holeCards, int[] board, ShowdownResult showdown) throws IOException {
+        if (showdown.getPlayerCount() != players) {
+            throw new IllegalArgumentException("Store has " + players + " seats, showdown has " + showdown.getPlayerCount());
+        }
+        append(holeCards, 0, ResultStore.packBoard(board), HandEvaluator.getCategory(showdown.getBestStrength()),
+                showdown.getWinnerMask());
+    }
+
+    /**
+     * Appends one table given as its column values, e.g. from rows buffered by another thread.
+     * @param holeCards Two card codes per seat, from holeOffset.
+     * @param holeOffset Index of the first seat's first card.
+     * @param packedBoard The board as packed by ResultStore.packBoard.
+     * @param category HandEvaluator category of the winning hand.
+     * @param winnerMask The ShowdownResult winner mask.
+     * @throws IOException If a full batch cannot be written.
+     */
+    void append(int[] holeCards, int holeOffset, int packedBoard, int category, int winnerMask) throws IOException {
+        ByteBuffer hole = buffers[0];
+        for (int seat = 0; seat < players; seat++) {
+            hole.putShort((short) HandRange.comboIndex(holeCards[holeOffset + 2 * seat], holeCards[holeOffset + 2 * seat + 1]));
+        }
+        buffers[1].putInt(packedBoard);
+        buffers[2].put((byte) category);
+        buffers[3].putShort((short) winnerMask);
+        rows++;
+        if (!buffers[3].hasRemaining()) {
+            flush();
+        }
+    }
+
+    /**
+     * Appends one table after Game.determineWinners.
+     * @param seats The players, each holding two cards.
+     * @param communityCards The five community cards.
+     * @param showdown The table's showdown.
+     * @throws IOException If a full batch cannot be written.
+     */
+    public void append(ArrayList<Player> seats, ArrayList<Card> communityCards, ShowdownResult showdown) throws IOException {
+        if (seats.size() != players || communityCards.size() != 5) {
+            throw new IllegalArgumentException("Store rows have " + players + " seats and five community cards");
+        }
+        for (int seat = 0; seat < players; seat++) {
+            ArrayList<Card> hand = seats.get(seat).getHand();
+            holeCodes[2 * seat] = hand.get(0).getCode();
+            holeCodes[2 * seat + 1] = hand.get(1).getCode();
+        }
+        for (int i = 0; i < 5; i++) {
+            boardCodes[i] = communityCards.get(i).getCode();
+        }
+        append(holeCodes, boardCodes, showdown);
+    }
+
+    /**
+     * Writes the buffered rows to the column files.
+     * @throws IOException If writing fails.
+     */
+    public void flush() throws IOException {
+        for (int c = 0; c < COLUMNS.length; c++) {
+            ByteBuffer buffer = buffers[c];
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channels[c].write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * @return Rows in the store, including buffered ones.
+     */
+    public long getRows() {return rows;}
+
+    public int getPlayerCount() {return players;}
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (channels[COLUMNS.length - 1] != null) {
+                flush();
+            }
+        } finally {
+            for (FileChannel channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+    }
+}
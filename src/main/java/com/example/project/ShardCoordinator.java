@@ -0,0 +1,334 @@
+package com.example.project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+
+/**
+ * Splits a seeded job into ranges (shards) and hands them to ShardWorker processes over TCP;
+ * the workers' counts are merged as they come back. Two kinds of job can be sharded: the
+ * tables of a Simulation run and the boards of a RangeEquity calculation. Table t and board
+ * b are always dealt the same cards, so the merged result equals a single-process run (for
+ * equities up to floating-point rounding).
+ *
+ * Protocol, with DataInput/DataOutput encoding: the worker sends MAGIC and VERSION, then the
+ * coordinator repeatedly sends SHARD, the job kind and the job's parameters with the shard's
+ * range, and the worker answers RESULT followed by the counts, until the coordinator sends
+ * DONE. A shard whose worker disconnects, or does not answer within the worker timeout, is
+ * handed to the next worker that asks. The protocol is not authenticated or encrypted: only
+ * listen on networks where every host may submit results.
+ *
+ * @param <R> The type of the merged result.
+ */
+public class ShardCoordinator<R> implements Closeable {
+    static final int MAGIC = 0x53484152; // "SHAR"
+    static final int VERSION = 3;
+    static final byte SHARD = 1;
+    static final byte RESULT = 2;
+    static final byte DONE = 3;
+    static final byte SIMULATION = 1;   // Job kinds
+    static final byte RANGE_EQUITY = 2;
+    public static final int DEFAULT_WORKER_TIMEOUT_MILLIS = 10 * 60 * 1000;
+
+    /**
+     * What is being sharded: how a worker is told about a shard and how its answer is merged.
+     */
+    private interface Job<R> {
+        long size();
+        void writeShard(DataOutput out, long from, long to) throws IOException;
+        R readResult(DataInput in, long from, long to) throws IOException;
+        void add(R shardResult);
+        R getResult();
+    }
+
+    private final ServerSocket server;
+    private final Job<R> job;
+    private final ArrayDeque<long[]> pending = new ArrayDeque<>(); // Shards not handed out, as {from, to}
+    private final int shardCount;
+    private volatile int workerTimeoutMillis = DEFAULT_WORKER_TIMEOUT_MILLIS;
+    private int completed;
+
+    private ShardCoordinator(Job<R> job, long shardSize, InetAddress bindAddress, int port) throws IOException {
+        if (shardSize < 1) {
+            throw new IllegalArgumentException("Shards must hold at least one table or board");
+        }
+        this.job = job;
+        for (long from = 0; from < job.size(); from += shardSize) {
+            pending.add(new long[] {from, Math.min(job.size(), from + shardSize)});
+        }
+        shardCount = pending.size();
+        server = new ServerSocket(port, 50, bindAddress);
+        Thread acceptor = new Thread(this::acceptWorkers, "shard-coordinator");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Shards a Simulation run; workers can connect as soon as this returns.
+     * @param bindAddress Address to listen on, or null for every local address.
+     * @param port Port to listen on, or 0 for any free port (see getPort).
+     * @param players Seats per table.
+     * @param seed Seed of the run.
+     * @param tables Number of tables to play.
+     * @param shardTables Tables per shard.
+     * @return The coordinator.
+     * @throws IOException If the socket cannot be opened.
+     */
+    public static ShardCoordinator<SimulationResult> simulation(InetAddress bindAddress, int port, int players, long seed,
+                                                                long tables, long shardTables) throws IOException {
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A table seats 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        SimulationResult result = new SimulationResult(players);
+        return new ShardCoordinator<>(new Job<SimulationResult>() {
+            public long size() {return tables;}
+
+            public void writeShard(DataOutput out, long from, long to) throws IOException {
+                out.writeByte(SIMULATION);
+                out.writeInt(players);
+                out.writeLong(seed);
+                out.writeLong(from);
+                out.writeLong(to);
+            }
+
+            public SimulationResult readResult(DataInput in, long from, long to) throws IOException {
+                SimulationResult counts = SimulationResult.read(in);
+                if (counts.getTables() != to - from || counts.getPlayerCount() != players) {
+                    throw new IOException("Worker result does not match its shard");
+                }
+                return counts;
+            }
+
+            public void add(SimulationResult shardResult) {result.add(shardResult);}
+            public SimulationResult getResult() {return result;}
+        }, shardTables, bindAddress, port);
+    }
+
+    /**
+     * Shards a RangeEquity calculation by boards; workers can connect as soon as this returns.
+     * @param bindAddress Address to listen on, or null for every local address.
+     * @param port Port to listen on, or 0 for any free port (see getPort).
+     * @param hero The first range.
+     * @param villain The second range.
+     * @param board Known community card codes (0 to 5 cards).
+     * @param deadCards Card codes that can never be dealt or held.
+     * @param samples Boards to sample when there are too many runouts to enumerate.
+     * @param seed Seed for the sampled boards.
+     * @param shardBoards Boards per shard.
+     * @return The coordinator.
+     * @throws IOException If the socket cannot be opened.
+     */
+    public static ShardCoordinator<RangeEquityResult> rangeEquity(InetAddress bindAddress, int port, HandRange hero,
+            HandRange villain, int[] board, int[] deadCards, long samples, long seed, long shardBoards) throws IOException {
+        long boards = RangeEquity.boardCount(board, deadCards, samples); // Also validates the cards
+        RangeEquityResult result = new RangeEquityResult();
+        return new ShardCoordinator<>(new Job<RangeEquityResult>() {
+            private boolean exact;
+
+            public long size() {return boards;}
+
+            public void writeShard(DataOutput out, long from, long to) throws IOException {
+                out.writeByte(RANGE_EQUITY);
+                writeRange(out, hero);
+                writeRange(out, villain);
+                writeCodes(out, board);
+                writeCodes(out, deadCards);
+                out.writeLong(samples);
+                out.writeLong(seed);
+                out.writeLong(from);
+                out.writeLong(to);
+            }
+
+            public RangeEquityResult readResult(DataInput in, long from, long to) throws IOException {
+                RangeEquityResult counts = RangeEquityResult.read(in);
+                if (counts.getBoards() != to - from) {
+                    throw new IOException("Worker result does not match its shard");
+                }
+                return counts;
+            }
+
+            public void add(RangeEquityResult shardResult) {
+                result.add(shardResult);
+                exact = shardResult.isExact();
+            }
+
+            public RangeEquityResult getResult() {
+                if (exact) {
+                    result.markExact();
+                }
+                return result;
+            }
+        }, shardBoards, bindAddress, port);
+    }
+
+    // A range as the number of weighted combos, then each combo index and weight
+    private static void writeRange(DataOutput out, HandRange range) throws IOException {
+        out.writeShort(range.getComboCount());
+        for (int combo = 0; combo < HandRange.COMBO_COUNT; combo++) {
+            if (range.getWeight(combo) > 0) {
+                out.writeShort(combo);
+                out.writeDouble(range.getWeight(combo));
+            }
+        }
+    }
+
+    static HandRange readRange(DataInput in) throws IOException {
+        HandRange range = new HandRange();
+        int count = in.readShort();
+        for (int i = 0; i < count; i++) {
+            int combo = in.readShort();
+            if (combo < 0 || combo >= HandRange.COMBO_COUNT) {
+                throw new IOException("Invalid combo index " + combo);
+            }
+            range.setWeight(combo, in.readDouble());
+        }
+        return range;
+    }
+
+    private static void writeCodes(DataOutput out, int[] codes) throws IOException {
+        out.writeByte(codes.length);
+        for (int code : codes) {
+            out.writeByte(code);
+        }
+    }
+
+    static int[] readCodes(DataInput in) throws IOException {
+        int[] codes = new int[in.readUnsignedByte()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = in.readByte();
+        }
+        return codes;
+    }
+
+    public int getPort() {return server.getLocalPort();}
+
+    /**
+     * Sets how long a worker may take to answer a shard before the shard is handed to
+     * another worker. It must exceed the time a worker needs for one shard. Applies to
+     * workers that connect afterwards.
+     * @param millis The timeout in milliseconds.
+     */
+    public void setWorkerTimeout(int millis) {
+        if (millis < 1) {
+            throw new IllegalArgumentException("The timeout must be positive");
+        }
+        workerTimeoutMillis = millis;
+    }
+
+    /**
+     * Waits until every shard has been computed.
+     * @return The merged counts of all shards.
+     * @throws InterruptedException If the wait is interrupted.
+     */
+    public synchronized R awaitResult() throws InterruptedException {
+        while (completed < shardCount) {
+            wait();
+        }
+        return job.getResult();
+    }
+
+    private void acceptWorkers() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread worker = new Thread(() -> serve(socket), "shard-connection");
+                worker.setDaemon(true);
+                worker.start();
+            } catch (IOException e) {
+                return; // Closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        long[] shard = null;
+        try (Socket connection = socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+            // A worker that hangs without closing its socket times out, which re-queues its shard
+            connection.setSoTimeout(workerTimeoutMillis);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return;
+            }
+            while ((shard = nextShard()) != null) {
+                out.writeByte(SHARD);
+                job.writeShard(out, shard[0], shard[1]);
+                out.flush();
+                if (in.readByte() != RESULT) {
+                    throw new IOException("Unexpected message from worker");
+                }
+                complete(job.readResult(in, shard[0], shard[1]));
+                shard = null;
+            }
+            out.writeByte(DONE);
+            out.flush();
+        } catch (IOException | InterruptedException e) {
+            // The worker is gone or too slow; its shard goes back to the queue
+        } finally {
+            if (shard != null) {
+                requeue(shard);
+            }
+        }
+    }
+
+    // The next shard to hand out, waiting while other workers might still give one back; null when all are done
+    private synchronized long[] nextShard() throws InterruptedException {
+        while (pending.isEmpty() && completed < shardCount) {
+            wait();
+        }
+        return pending.poll();
+    }
+
+    private synchronized void complete(R shardResult) {
+        job.add(shardResult);
+        completed++;
+        notifyAll();
+    }
+
+    private synchronized void requeue(long[] shard) {
+        pending.addFirst(shard);
+        notifyAll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Runs a sharded simulation and prints the result:
+     * ShardCoordinator [--bind address] port players seed tables shardTables
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        InetAddress bindAddress = null;
+        int first = 0;
+        if (args.length > 1 && args[0].equals("--bind")) {
+            bindAddress = InetAddress.getByName(args[1]);
+            first = 2;
+        }
+        if (args.length < first + 5) {
+            System.out.println("Usage: ShardCoordinator [--bind <address>] <port> <players> <seed> <tables> <shardTables>");
+            return;
+        }
+        try (ShardCoordinator<SimulationResult> coordinator = simulation(bindAddress, Integer.parseInt(args[first]),
+                Integer.parseInt(args[first + 1]), Long.parseLong(args[first + 2]), Long.parseLong(args[first + 3]),
+                Long.parseLong(args[first + 4]))) {
+            System.out.println("Waiting for workers on port " + coordinator.getPort());
+            SimulationResult result = coordinator.awaitResult();
+            System.out.println("Tables: " + result.getTables() + ", split pots: " + result.getSplitPots());
+            for (int seat = 0; seat < result.getPlayerCount(); seat++) {
+                System.out.println("Seat " + (seat + 1) + ": " + result.getSeatWins(seat) + " wins, "
+                        + result.getSeatTies(seat) + " ties");
+            }
+        }
+    }
+}
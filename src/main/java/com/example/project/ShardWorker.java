@@ -0,0 +1,84 @@
+package com.example.project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes shards handed out by a ShardCoordinator until it has none left. Run one worker per
+ * process, on as many hosts as can reach the coordinator: ShardWorker host port [parallelism]
+ */
+public class ShardWorker {
+
+    /**
+     * Connects to a coordinator and computes shards until it sends DONE.
+     * @param host The coordinator's host.
+     * @param port The coordinator's port.
+     * @param parallelism Threads used for each shard.
+     * @return The number of shards computed.
+     * @throws IOException If the connection fails.
+     */
+    public static int work(String host, int port, int parallelism) throws IOException {
+        int shards = 0;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (Socket socket = new Socket(host, port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            out.writeInt(ShardCoordinator.MAGIC);
+            out.writeInt(ShardCoordinator.VERSION);
+            out.flush();
+            while (true) {
+                byte type = in.readByte();
+                if (type == ShardCoordinator.DONE) {
+                    return shards;
+                }
+                if (type != ShardCoordinator.SHARD) {
+                    throw new IOException("Unexpected message from coordinator: " + type);
+                }
+                byte kind = in.readByte();
+                if (kind == ShardCoordinator.SIMULATION) {
+                    int players = in.readInt();
+                    long seed = in.readLong();
+                    long fromTable = in.readLong();
+                    long toTable = in.readLong();
+                    SimulationResult result = new Simulation(players, parallelism).run(seed, fromTable, toTable);
+                    out.writeByte(ShardCoordinator.RESULT);
+                    result.write(out);
+                } else if (kind == ShardCoordinator.RANGE_EQUITY) {
+                    HandRange hero = ShardCoordinator.readRange(in);
+                    HandRange villain = ShardCoordinator.readRange(in);
+                    int[] board = ShardCoordinator.readCodes(in);
+                    int[] deadCards = ShardCoordinator.readCodes(in);
+                    long samples = in.readLong();
+                    long seed = in.readLong();
+                    long fromBoard = in.readLong();
+                    long toBoard = in.readLong();
+                    RangeEquityResult result = new RangeEquity(pool).calculate(hero, villain, board, deadCards, samples, seed,
+                            fromBoard, toBoard);
+                    out.writeByte(ShardCoordinator.RESULT);
+                    result.write(out);
+                } else {
+                    throw new IOException("Unknown job kind: " + kind);
+                }
+                out.flush();
+                shards++;
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: ShardWorker <host> <port> [parallelism]");
+            return;
+        }
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int shards = work(args[0], Integer.parseInt(args[1]), parallelism);
+        System.out.println("Computed " + shards + " shards");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.project;
+
+/**
+ * Showdown between 2 to 10 players sharing one board. Each player's best hand is
+ * evaluated exactly once, and ties produce a split pot between all best hands.
+ */
+public class Showdown {
+    public static final int MAX_PLAYERS = 10;
+
+    /**
+     * Evaluates every player against the board.
+     * @param holeCards Two card codes per player.
+     * @param players Number of players (2 to 10).
+     * @param board Community card codes.
+     * @param boardCount Number of community cards used from board.
+     * @param out Receives the strengths and the winners.
+     */
+    public static void evaluate(int[] holeCards, int players, int[] board, int boardCount, ShowdownResult out) {
+        if (players < 2 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A showdown needs 2 to " + MAX_PLAYERS + " players");
+        }
+        long boardMask = 0;
+        for (int i = 0; i < boardCount; i++) {
+            boardMask |= HandEvaluator.suitBit(board[i]);
+        }
+        evaluate(holeCards, players, boardMask, out, Metrics.recorder());
+    }
+
+    /**
+     * Evaluates every player against a board given as a HandEvaluator suit mask. Loops read
+     * Metrics.recorder() once and pass it in, rather than reading the volatile per showdown.
+     * @param holeCards Two card codes per player.
+     * @param players Number of players.
+     * @param boardMask The community cards as a suit mask.
+     * @param out Receives the strengths and the winners.
+     * @param metrics Records the showdown.
+     */
+    static void evaluate(int[] holeCards, int players, long boardMask, ShowdownResult out, MetricsRecorder metrics) {
+        for (int p = 0; p < players; p++) {
+            out.set(p, HandEvaluator.evaluateSuitMask(boardMask
+                    | HandEvaluator.suitBit(holeCards[2 * p]) | HandEvaluator.suitBit(holeCards[2 * p + 1])));
+        }
+        out.resolve(players);
+        metrics.showdown(out);
+    }
+}
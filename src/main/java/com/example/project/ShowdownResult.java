@@ -0,0 +1,47 @@
+package com.example.project;
+
+/**
+ * Outcome of one showdown: every player's strength and the set of winners.
+ * Instances are meant to be reused, so a simulation loop can call Showdown repeatedly
+ * with the same result object and never allocate.
+ */
+public class ShowdownResult {
+    private final int[] strengths = new int[Showdown.MAX_PLAYERS];
+    private int players;
+    private int bestStrength;
+    private int winnerMask;  // Bit p is set when player p shares the best hand
+    private int winnerCount;
+
+    void set(int player, int strength) {
+        strengths[player] = strength;
+    }
+
+    /**
+     * Finds the winners after every player's strength has been set.
+     * @param players Number of players in this showdown.
+     */
+    void resolve(int players) {
+        this.players = players;
+        int best = -1;
+        int mask = 0;
+        for (int p = 0; p < players; p++) {
+            if (strengths[p] > best) {
+                best = strengths[p];
+                mask = 1 << p;
+            } else if (strengths[p] == best) {
+                mask |= 1 << p;
+            }
+        }
+        bestStrength = best;
+        winnerMask = mask;
+        winnerCount = Integer.bitCount(mask);
+    }
+
+    public int getPlayerCount() {return players;}
+    public int getStrength(int player) {return strengths[player];}
+    public int getBestStrength() {return bestStrength;}
+    public int getWinnerMask() {return winnerMask;}
+    public int getWinnerCount() {return winnerCount;}
+    public boolean isWinner(int player) {return (winnerMask & (1 << player)) != 0;}
+    public boolean isSplitPot() {return winnerCount > 1;}
+}
@@ -0,0 +1,285 @@
+package com.example.project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays many independent tables concurrently. Every worker thread owns its Deck, its
+ * DealStream and its SimulationResult for a contiguous range of tables; the results are only
+ * merged after all workers are done, so workers never contend on shared state.
+ */
+public class Simulation {
+    private static final int LATENCY_SAMPLE_INTERVAL = 64; // Time one table in this many when metrics are on
+    private static final int STORE_BLOCK_TABLES = 8192;    // Tables a worker buffers for a ResultStoreWriter at a time
+
+    /**
+     * Store rows for a block of tables, buffered by a worker until the writer takes them in
+     * table order.
+     */
+    private static class TableRows {
+        private final int players;
+        private final int[] holes;
+        private final int[] boards = new int[STORE_BLOCK_TABLES];
+        private final byte[] categories = new byte[STORE_BLOCK_TABLES];
+        private final short[] winners = new short[STORE_BLOCK_TABLES];
+        private int count;
+
+        TableRows(int players) {
+            this.players = players;
+            holes = new int[STORE_BLOCK_TABLES * 2 * players];
+        }
+
+        void add(int[] hole, int[] board, ShowdownResult showdown) {
+            System.arraycopy(hole, 0, holes, count * 2 * players, 2 * players);
+            boards[count] = ResultStore.packBoard(board);
+            categories[count] = (byte) HandEvaluator.getCategory(showdown.getBestStrength());
+            winners[count] = (short) showdown.getWinnerMask();
+            count++;
+        }
+
+        void writeTo(ResultStoreWriter store) throws IOException {
+            for (int row = 0; row < count; row++) {
+                store.append(holes, row * 2 * players, boards[row], categories[row], winners[row] & 0xFFFF);
+            }
+            count = 0;
+        }
+    }
+
+    private final int players;
+    private final int parallelism;
+
+    /**
+     * @param players Seats per table (2 to 10).
+     * @param parallelism Number of worker threads.
+     */
+    public Simulation(int players, int parallelism) {
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A table seats 2 to " + Showdown.MAX_PLAYERS + " players");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.players = players;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Uses one worker per available processor.
+     * @param players Seats per table (2 to 10).
+     */
+    public Simulation(int players) {
+        this(players, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays the given number of tables, each dealt from a freshly shuffled deck.
+     * @param tables Number of tables to play.
+     * @param seed Seed of the run; the same seed always gives the same result.
+     * @return The merged counters of all workers.
+     */
+    public SimulationResult run(long tables, long seed) {
+        return run(seed, 0, tables);
+    }
+
+    /**
+     * Plays tables fromTable to toTable - 1 of a run. Table t is always dealt from trial t of a
+     * DealStream, so the result depends only on the seed and the range: not on the parallelism,
+     * the thread scheduling, or how a run is split into ranges.
+     * @param seed Seed of the run.
+     * @param fromTable First table to play.
+     * @param toTable Table after the last one to play.
+     * @return The merged counters of all workers.
+     */
+    public SimulationResult run(long seed, long fromTable, long toTable) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            return run(executor, seed, fromTable, toTable);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Plays a range of tables on the given executor, one contiguous share per worker
+    private SimulationResult run(ExecutorService executor, long seed, long fromTable, long toTable) {
+        if (fromTable < 0 || toTable < fromTable) {
+            throw new IllegalArgumentException("Invalid table range " + fromTable + " to " + toTable);
+        }
+        long tables = toTable - fromTable;
+        try {
+            ArrayList<Future<SimulationResult>> futures = new ArrayList<>();
+            long next = fromTable;
+            for (int worker = 0; worker < parallelism; worker++) {
+                // Contiguous ranges; the remainder is spread over the first workers
+                long share = tables / parallelism + (worker < tables % parallelism ? 1 : 0);
+                long first = next;
+                futures.add(executor.submit(() -> playTables(seed, first, first + share, null)));
+                next += share;
+            }
+            SimulationResult result = new SimulationResult(players);
+            for (Future<SimulationResult> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Continues a checkpointed run up to toTable, in chunks of chunkTables. After every chunk
+     * the checkpoint is advanced and, if a file is given, saved, so a preempted run loses at
+     * most one chunk. The final counters equal those of one uninterrupted run.
+     * @param checkpoint The run to continue; updated in place.
+     * @param toTable Table after the last one to play.
+     * @param chunkTables Tables played between checkpoints.
+     * @param file Where to save the checkpoint after each chunk, or null.
+     * @return The counters of all tables played so far.
+     * @throws IOException If the checkpoint cannot be saved.
+     */
+    public SimulationResult run(SimulationCheckpoint checkpoint, long toTable, long chunkTables, Path file) throws IOException {
+        if (checkpoint.getPlayers() != players) {
+            throw new IllegalArgumentException("Checkpoint is for " + checkpoint.getPlayers() + " players");
+        }
+        if (chunkTables < 1) {
+            throw new IllegalArgumentException("Chunks must hold at least one table");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism); // One pool for every chunk
+        try {
+            while (checkpoint.getNextTable() < toTable) {
+                long from = checkpoint.getNextTable();
+                long to = Math.min(toTable, from + chunkTables);
+                checkpoint.advance(run(executor, checkpoint.getSeed(), from, to), to);
+                if (file != null) {
+                    checkpoint.save(file);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return checkpoint.getResult();
+    }
+
+    /**
+     * Plays tables fromTable to toTable - 1 and appends each one to a result store, in table
+     * order, so row r of this call is table fromTable + r. Workers play consecutive blocks of
+     * tables into their own buffers; the calling thread appends the blocks in order, so the
+     * writer is only ever used by one thread.
+     * @param seed Seed of the run.
+     * @param fromTable First table to play.
+     * @param toTable Table after the last one to play.
+     * @param store Receives one row per table.
+     * @return The counters for these tables; the same as run(seed, fromTable, toTable).
+     * @throws IOException If the store cannot be written.
+     */
+    public SimulationResult run(long seed, long fromTable, long toTable, ResultStoreWriter store) throws IOException {
+        if (fromTable < 0 || toTable < fromTable) {
+            throw new IllegalArgumentException("Invalid table range " + fromTable + " to " + toTable);
+        }
+        if (store.getPlayerCount() != players) {
+            throw new IllegalArgumentException("Store has " + store.getPlayerCount() + " seats");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            TableRows[] rows = new TableRows[parallelism];
+            for (int worker = 0; worker < parallelism; worker++) {
+                rows[worker] = new TableRows(players);
+            }
+            SimulationResult result = new SimulationResult(players);
+            ArrayList<Future<SimulationResult>> futures = new ArrayList<>();
+            long next = fromTable;
+            while (next < toTable) {
+                // One block per worker, then the blocks are appended while the next round waits
+                futures.clear();
+                for (int worker = 0; worker < parallelism && next < toTable; worker++) {
+                    long first = next;
+                    long last = Math.min(toTable, first + STORE_BLOCK_TABLES);
+                    TableRows block = rows[worker];
+                    futures.add(executor.submit(() -> playTables(seed, first, last, block)));
+                    next = last;
+                }
+                for (int worker = 0; worker < futures.size(); worker++) {
+                    result.add(futures.get(worker).get());
+                    rows[worker].writeTo(store);
+                }
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a range of tables on the calling thread.
+     * @param seed Seed of the run.
+     * @param fromTable First table to play.
+     * @param toTable Table after the last one to play.
+     * @param rows Receives one store row per table, or null.
+     * @return The counters for these tables.
+     */
+    SimulationResult playTables(long seed, long fromTable, long toTable, TableRows rows) {
+        SimulationResult result = new SimulationResult(players);
+        DealStream stream = new DealStream(seed);
+        Deck deck = new Deck(stream);
+        int[] hole = new int[2 * players];
+        int[] board = new int[5];
+        ShowdownResult showdown = new ShowdownResult();
+        MetricsRecorder metrics = Metrics.recorder();
+        for (long table = fromTable; table < toTable; table++) {
+            boolean timed = metrics.isEnabled() && table % LATENCY_SAMPLE_INTERVAL == 0;
+            long start = timed ? System.nanoTime() : 0;
+            stream.seek(table);
+            dealTable(deck, players, hole, board);
+            long boardMask = 0;
+            for (int code : board) {
+                boardMask |= HandEvaluator.suitBit(code);
+            }
+            long dealt = timed ? System.nanoTime() : 0;
+
+            Showdown.evaluate(hole, players, boardMask, showdown, metrics);
+            result.record(showdown);
+            if (rows != null) {
+                rows.add(hole, board, showdown);
+            }
+            if (timed) {
+                metrics.phaseLatency(MetricsRecorder.PHASE_DEAL, dealt - start);
+                metrics.phaseLatency(MetricsRecorder.PHASE_SHOWDOWN, System.nanoTime() - dealt);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Deals one table from a deck put back in code order: two hole cards per seat, then the board.
+     * With the deck's generator positioned at a trial, this always deals that trial's cards.
+     * @param deck The deck.
+     * @param players Number of seats.
+     * @param hole Receives two card codes per seat.
+     * @param board Receives five card codes.
+     */
+    static void dealTable(Deck deck, int players, int[] hole, int[] board) {
+        deck.resetOrdered();
+        deck.partialShuffle(2 * players + 5);
+        for (int i = 0; i < 2 * players; i++) {
+            hole[i] = deck.dealCode();
+        }
+        for (int i = 0; i < 5; i++) {
+            board[i] = deck.dealCode();
+        }
+    }
+
+    public int getPlayers() {return players;}
+    public int getParallelism() {return parallelism;}
+}
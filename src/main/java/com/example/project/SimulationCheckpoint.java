@@ -0,0 +1,95 @@
+package com.example.project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Progress of a seeded Simulation run: every table before nextTable has been played and is
+ * counted in the result. Because table t is always dealt the same cards (see DealStream),
+ * a run resumed from a checkpoint ends with exactly the counters of an uninterrupted run.
+ */
+public class SimulationCheckpoint {
+    private static final int MAGIC = 0x53494D43; // "SIMC"
+    private static final int VERSION = 2;        // 2: counters in the SimulationResult.encode form
+
+    private final long seed;
+    private long nextTable;
+    private SimulationResult result;
+
+    /**
+     * A run that has not played any table yet.
+     * @param players Seats per table.
+     * @param seed Seed of the run.
+     */
+    public SimulationCheckpoint(int players, long seed) {
+        this(seed, 0, new SimulationResult(players));
+    }
+
+    private SimulationCheckpoint(long seed, long nextTable, SimulationResult result) {
+        this.seed = seed;
+        this.nextTable = nextTable;
+        this.result = result;
+    }
+
+    /**
+     * Adds the counters of the tables from nextTable up to toTable.
+     * @param chunk The counters of those tables.
+     * @param toTable Table after the last one in chunk.
+     */
+    void advance(SimulationResult chunk, long toTable) {
+        if (chunk.getTables() != toTable - nextTable) {
+            throw new IllegalArgumentException("Chunk does not cover tables " + nextTable + " to " + toTable);
+        }
+        result.add(chunk);
+        nextTable = toTable;
+    }
+
+    /**
+     * Writes the checkpoint. The file is replaced in one step, so a crash while saving
+     * leaves the previous checkpoint intact.
+     * @param file Where to write the checkpoint.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeLong(nextTable);
+            result.write(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a checkpoint written by save.
+     * @param file The checkpoint file.
+     * @return The checkpoint.
+     * @throws IOException If the file cannot be read or is not a checkpoint.
+     */
+    public static SimulationCheckpoint load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a simulation checkpoint: " + file);
+            }
+            if (in.readInt() != VERSION) {
+                throw new IOException("Unsupported checkpoint version: " + file);
+            }
+            long seed = in.readLong();
+            long nextTable = in.readLong();
+            return new SimulationCheckpoint(seed, nextTable, SimulationResult.read(in));
+        }
+    }
+
+    public long getSeed() {return seed;}
+    public long getNextTable() {return nextTable;}
+    public int getPlayers() {return result.getPlayerCount();}
+    public SimulationResult getResult() {return result;}
+}
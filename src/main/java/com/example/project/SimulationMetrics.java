@@ -0,0 +1,198 @@
+package com.example.project;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * MetricsRecorder that counts into LongAdders, so recording threads do not contend, and keeps
+ * per-phase latencies as histograms with one bucket per power of two nanoseconds.
+ * Install it with Metrics.setRecorder and publish it over JMX with register.
+ */
+public class SimulationMetrics implements MetricsRecorder, SimulationMetricsMXBean {
+    public static final String OBJECT_NAME = "com.example.project:type=SimulationMetrics";
+    private static final int BUCKETS = 64;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder showdowns = new LongAdder();
+    private final LongAdder splitPots = new LongAdder();
+    private final LongAdder deckShuffles = new LongAdder();
+    private final LongAdder[] categories = adders(HandEvaluator.STRAIGHT_FLUSH + 1);
+    private final LongAdder[][] latencyBuckets = new LongAdder[PHASE_COUNT][];
+    private final LongAdder[] latencyTotals = adders(PHASE_COUNT);
+    private volatile long startNanos = System.nanoTime();
+
+    public SimulationMetrics() {
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            latencyBuckets[phase] = adders(BUCKETS);
+        }
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void deckShuffled() {
+        deckShuffles.increment();
+    }
+
+    @Override
+    public void showdown(ShowdownResult showdown) {
+        int players = showdown.getPlayerCount();
+        for (int p = 0; p < players; p++) {
+            categories[HandEvaluator.getCategory(showdown.getStrength(p))].increment();
+        }
+        evaluations.add(players);
+        showdowns.increment();
+        if (showdown.isSplitPot()) {
+            splitPots.increment();
+        }
+    }
+
+    @Override
+    public void headsUpShowdown(int strength1, int strength2) {
+        categories[HandEvaluator.getCategory(strength1)].increment();
+        categories[HandEvaluator.getCategory(strength2)].increment();
+        showdowns.increment();
+        if (strength1 == strength2) {
+            splitPots.increment();
+        }
+    }
+
+    @Override
+    public void evaluations(long count) {
+        evaluations.add(count);
+    }
+
+    @Override
+    public void phaseLatency(int phase, long nanos) {
+        // Bucket b holds latencies from 2^(b-1) up to 2^b - 1 nanoseconds
+        latencyBuckets[phase][BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 0))].increment();
+        latencyTotals[phase].add(nanos);
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server under OBJECT_NAME.
+     * @throws JMException If the name is taken or the bean is rejected.
+     */
+    public void register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Removes the bean published by register.
+     * @throws JMException If no bean is registered under OBJECT_NAME.
+     */
+    public void unregister() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.unregisterMBean(new ObjectName(OBJECT_NAME));
+    }
+
+    @Override public long getEvaluations() {return evaluations.sum();}
+    @Override public long getShowdowns() {return showdowns.sum();}
+    @Override public long getSplitPots() {return splitPots.sum();}
+    @Override public long getDeckShuffles() {return deckShuffles.sum();}
+
+    /**
+     * @return Hand evaluations per second since creation or the last reset, counting showdown hands
+     *         and every entry point listed on MetricsRecorder.evaluations.
+     */
+    @Override
+    public double getEvaluationsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds <= 0 ? 0 : evaluations.sum() / seconds;
+    }
+
+    /**
+     * @return Share of showdowns that ended in a split pot.
+     */
+    @Override
+    public double getTieRate() {
+        long total = showdowns.sum();
+        return total == 0 ? 0 : (double) splitPots.sum() / total;
+    }
+
+    /**
+     * @return Showdown hands per HandEvaluator category.
+     */
+    @Override
+    public long[] getCategoryCounts() {
+        return sums(categories);
+    }
+
+    /**
+     * @return Number of timed samples per phase.
+     */
+    @Override
+    public long[] getPhaseCounts() {
+        long[] counts = new long[PHASE_COUNT];
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            for (LongAdder bucket : latencyBuckets[phase]) {
+                counts[phase] += bucket.sum();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return Mean latency per phase in nanoseconds, 0 for phases without samples.
+     */
+    @Override
+    public double[] getMeanPhaseNanos() {
+        long[] counts = getPhaseCounts();
+        double[] means = new double[PHASE_COUNT];
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            means[phase] = counts[phase] == 0 ? 0 : (double) latencyTotals[phase].sum() / counts[phase];
+        }
+        return means;
+    }
+
+    /**
+     * Latency histogram of one phase: bucket b counts samples from 2^(b-1) to 2^b - 1 nanoseconds.
+     * @param phase One of the PHASE_ constants.
+     * @return The bucket counts.
+     */
+    public long[] getLatencyHistogram(int phase) {
+        return sums(latencyBuckets[phase]);
+    }
+
+    @Override public long[] getDealLatencyHistogram() {return getLatencyHistogram(PHASE_DEAL);}
+    @Override public long[] getEvaluateLatencyHistogram() {return getLatencyHistogram(PHASE_EVALUATE);}
+    @Override public long[] getShowdownLatencyHistogram() {return getLatencyHistogram(PHASE_SHOWDOWN);}
+
+    /**
+     * Clears every counter; events recorded concurrently may land on either side of the reset.
+     */
+    @Override
+    public void reset() {
+        evaluations.reset();
+        showdowns.reset();
+        splitPots.reset();
+        deckShuffles.reset();
+        for (LongAdder category : categories) {
+            category.reset();
+        }
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            latencyTotals[phase].reset();
+            for (LongAdder bucket : latencyBuckets[phase]) {
+                bucket.reset();
+            }
+        }
+        startNanos = System.nanoTime();
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+}
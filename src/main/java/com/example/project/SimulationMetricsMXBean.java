@@ -0,0 +1,20 @@
+package com.example.project;
+
+/**
+ * JMX view of SimulationMetrics.
+ */
+public interface SimulationMetricsMXBean {
+    long getEvaluations();
+    double getEvaluationsPerSecond();
+    long getShowdowns();
+    long getSplitPots();
+    double getTieRate();
+    long getDeckShuffles();
+    long[] getCategoryCounts();
+    long[] getPhaseCounts();
+    double[] getMeanPhaseNanos();
+    long[] getDealLatencyHistogram();
+    long[] getEvaluateLatencyHistogram();
+    long[] getShowdownLatencyHistogram();
+    void reset();
+}
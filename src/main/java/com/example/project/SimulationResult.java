@@ -0,0 +1,157 @@
+package com.example.project;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Counters collected by a Simulation. Each worker fills its own instance and the
+ * instances are merged at the end, so the counters themselves need no synchronization.
+ */
+public class SimulationResult {
+    // Largest encode output: the player count byte, then up to ten bytes per varint
+    private static final int MAX_ENCODED_SIZE = 1 + 10 * (2 * Showdown.MAX_PLAYERS + 2 * (HandEvaluator.STRAIGHT_FLUSH + 1) + 2);
+
+    private final long[] seatWins;          // Pots won outright per seat
+    private final long[] seatTies;          // Pots split per seat
+    private final long[] categoryCounts;    // Every evaluated hand, by HandEvaluator category
+    private final long[] winningCategories; // The winning hand of each table, by category
+    private long tables;
+    private long splitPots;
+
+    public SimulationResult(int players) {
+        seatWins = new long[players];
+        seatTies = new long[players];
+        categoryCounts = new long[HandEvaluator.STRAIGHT_FLUSH + 1];
+        winningCategories = new long[HandEvaluator.STRAIGHT_FLUSH + 1];
+    }
+
+    /**
+     * Records one table's showdown.
+     * @param showdown The showdown at this table.
+     */
+    void record(ShowdownResult showdown) {
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            categoryCounts[HandEvaluator.getCategory(showdown.getStrength(seat))]++;
+            if (showdown.isWinner(seat)) {
+                if (showdown.isSplitPot()) {
+                    seatTies[seat]++;
+                } else {
+                    seatWins[seat]++;
+                }
+            }
+        }
+        winningCategories[HandEvaluator.getCategory(showdown.getBestStrength())]++;
+        if (showdown.isSplitPot()) {
+            splitPots++;
+        }
+        tables++;
+    }
+
+    /**
+     * Adds the counters of another result for the same number of seats into this one.
+     * @param other The result to merge.
+     */
+    void add(SimulationResult other) {
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            seatWins[seat] += other.seatWins[seat];
+            seatTies[seat] += other.seatTies[seat];
+        }
+        for (int category = 0; category < categoryCounts.length; category++) {
+            categoryCounts[category] += other.categoryCounts[category];
+            winningCategories[category] += other.winningCategories[category];
+        }
+        tables += other.tables;
+        splitPots += other.splitPots;
+    }
+
+    /**
+     * Writes the counters to a stream, e.g. into a checkpoint: the encode form, preceded by
+     * its length as an unsigned short.
+     * @param out The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    void write(DataOutput out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_ENCODED_SIZE);
+        encode(buffer);
+        out.writeShort(buffer.position());
+        out.write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * Reads counters written by write.
+     * @param in The stream to read from.
+     * @return The counters.
+     * @throws IOException If reading fails or the data is not a result.
+     */
+    static SimulationResult read(DataInput in) throws IOException {
+        int size = in.readUnsignedShort();
+        if (size > MAX_ENCODED_SIZE) {
+            throw new IOException("Invalid result size " + size);
+        }
+        byte[] bytes = new byte[size];
+        in.readFully(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            SimulationResult result = decode(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IOException("Result has " + buffer.remaining() + " extra bytes");
+            }
+            return result;
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IOException("Invalid result", e);
+        }
+    }
+
+    /**
+     * Writes the counters as varints (see DealCodec.writeResult).
+     * @param out The buffer to write to.
+     */
+    void encode(ByteBuffer out) {
+        out.put((byte) seatWins.length);
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            DealCodec.putVarLong(out, seatWins[seat]);
+            DealCodec.putVarLong(out, seatTies[seat]);
+        }
+        for (int category = 0; category < categoryCounts.length; category++) {
+            DealCodec.putVarLong(out, categoryCounts[category]);
+            DealCodec.putVarLong(out, winningCategories[category]);
+        }
+        DealCodec.putVarLong(out, tables);
+        DealCodec.putVarLong(out, splitPots);
+    }
+
+    /**
+     * Reads counters written by encode.
+     * @param in The buffer to read from.
+     * @return The counters.
+     */
+    static SimulationResult decode(ByteBuffer in) {
+        int players = in.get();
+        if (players < 2 || players > Showdown.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Invalid player count " + players);
+        }
+        SimulationResult result = new SimulationResult(players);
+        for (int seat = 0; seat < players; seat++) {
+            result.seatWins[seat] = DealCodec.getVarLong(in);
+            result.seatTies[seat] = DealCodec.getVarLong(in);
+        }
+        for (int category = 0; category < result.categoryCounts.length; category++) {
+            result.categoryCounts[category] = DealCodec.getVarLong(in);
+            result.winningCategories[category] = DealCodec.getVarLong(in);
+        }
+        result.tables = DealCodec.getVarLong(in);
+        result.splitPots = DealCodec.getVarLong(in);
+        return result;
+    }
+
+    public int getPlayerCount() {return seatWins.length;}
+    public long getTables() {return tables;}
+    public long getSplitPots() {return splitPots;}
+    public long getSeatWins(int seat) {return seatWins[seat];}
+    public long getSeatTies(int seat) {return seatTies[seat];}
+    public long getCategoryCount(int category) {return categoryCounts[category];}
+    public long getWinningCategoryCount(int category) {return winningCategories[category];}
+}
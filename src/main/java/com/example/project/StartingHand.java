@@ -0,0 +1,101 @@
+package com.example.project;
+
+/**
+ * The 169 canonical hold'em starting hands ("AA", "AKs", "AKo", ...).
+ * Class indexes form a 13x13 grid: pairs on the diagonal, suited hands at
+ * high * 13 + low and offsuit hands at low * 13 + high.
+ */
+public class StartingHand {
+    public static final int CLASS_COUNT = 169;
+
+    /**
+     * Finds the class of two hole cards.
+     * @param card1 First card code.
+     * @param card2 Second card code.
+     * @return The class index (0..168).
+     */
+    public static int classIndex(int card1, int card2) {
+        int high = Math.max(Card.rankOf(card1), Card.rankOf(card2));
+        int low = Math.min(Card.rankOf(card1), Card.rankOf(card2));
+        if (high == low || Card.suitOf(card1) == Card.suitOf(card2)) {
+            return high * 13 + low;
+        }
+        return low * 13 + high;
+    }
+
+    /**
+     * Finds the class of a name such as "QQ", "AKs" or "T9o".
+     * @param name The class name.
+     * @return The class index.
+     */
+    public static int classIndex(String name) {
+        if (name.length() < 2 || name.length() > 3) {
+            throw new IllegalArgumentException("Invalid starting hand: " + name);
+        }
+        int first = Utility.getRankSymbolIndex(name.charAt(0));
+        int second = Utility.getRankSymbolIndex(name.charAt(1));
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Invalid starting hand: " + name);
+        }
+        int high = Math.max(first, second);
+        int low = Math.min(first, second);
+        if (high == low) {
+            if (name.length() != 2) {
+                throw new IllegalArgumentException("Pairs are neither suited nor offsuit: " + name);
+            }
+            return high * 13 + low;
+        }
+        if (name.length() != 3) {
+            throw new IllegalArgumentException("Specify s or o for " + name);
+        }
+        char kind = Character.toLowerCase(name.charAt(2));
+        if (kind == 's') {
+            return high * 13 + low;
+        }
+        if (kind == 'o') {
+            return low * 13 + high;
+        }
+        throw new IllegalArgumentException("Invalid starting hand: " + name);
+    }
+
+    public static boolean isPair(int classIndex) {return classIndex / 13 == classIndex % 13;}
+    public static boolean isSuited(int classIndex) {return classIndex / 13 > classIndex % 13;}
+
+    // Higher and lower rank index of a class
+    public static int highRank(int classIndex) {return Math.max(classIndex / 13, classIndex % 13);}
+    public static int lowRank(int classIndex) {return Math.min(classIndex / 13, classIndex % 13);}
+
+    /**
+     * Number of card combinations in a class: 6 for pairs, 4 suited, 12 offsuit.
+     * @param classIndex The class index.
+     * @return The combination count.
+     */
+    public static int comboCount(int classIndex) {
+        return isPair(classIndex) ? 6 : isSuited(classIndex) ? 4 : 12;
+    }
+
+    /**
+     * One concrete pair of hole cards for a class; by suit symmetry it has the class's equity.
+     * @param classIndex The class index.
+     * @return Two card codes.
+     */
+    public static int[] representative(int classIndex) {
+        int high = highRank(classIndex);
+        int low = lowRank(classIndex);
+        int secondSuit = isSuited(classIndex) ? 0 : 1;
+        return new int[] {high * 4, low * 4 + secondSuit};
+    }
+
+    /**
+     * Name of a class, e.g. "AKs".
+     * @param classIndex The class index.
+     * @return The class name.
+     */
+    public static String getName(int classIndex) {
+        String ranks = "" + Utility.getRankSymbol(highRank(classIndex)) + Utility.getRankSymbol(lowRank(classIndex));
+        if (isPair(classIndex)) {
+            return ranks;
+        }
+        return ranks + (isSuited(classIndex) ? "s" : "o");
+    }
+}
@@ -0,0 +1,465 @@
+package com.example.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Maps hands to their canonical form under suit permutation, and numbers the canonical
+ * hands densely so the number can be used directly as an array offset.
+ *
+ * Cards are dealt in rounds, e.g. {2} for preflop, {2, 3} for the flop and {2, 3, 1, 1}
+ * for the river; two hands are isomorphic when some relabelling of the suits (Utility.getSuits())
+ * turns one into the other round by round. The indexer follows Waugh's construction:
+ * each suit is described by its card count per round (its configuration) and by an index of
+ * its rank sets within that configuration; suits are sorted, every distinct sorted
+ * configuration of the four suits owns a block of indexes, and suits that share a
+ * configuration are numbered as a multiset so their order does not matter.
+ */
+public class SuitIsomorphism {
+    private static final int SUITS = 4;
+    private static final int RANKS = 13;
+    private static final int MAX_ROUNDS = 4;
+    private static final int MAX_ROUND_CARDS = 7; // Keeps each configuration nibble, and so every key, positive
+    private static final long[][] CHOOSE = new long[RANKS + 1][RANKS + 1];
+
+    static {
+        for (int n = 0; n <= RANKS; n++) {
+            CHOOSE[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+            }
+        }
+    }
+
+    private final int[] cardsPerRound;
+    private final int cardCount;
+    private final long[] keys;    // Sorted suit configurations of the whole hand
+    private final long[] offsets; // First index of each configuration's block
+    private final long size;
+
+    /**
+     * @param cardsPerRound Cards dealt in each round (1 to 4 rounds, 1 to 7 cards each).
+     */
+    public SuitIsomorphism(int... cardsPerRound) {
+        if (cardsPerRound.length < 1 || cardsPerRound.length > MAX_ROUNDS) {
+            throw new IllegalArgumentException("Need 1 to " + MAX_ROUNDS + " rounds");
+        }
+        int total = 0;
+        for (int cards : cardsPerRound) {
+            if (cards < 1 || cards > MAX_ROUND_CARDS) {
+                throw new IllegalArgumentException("A round deals 1 to " + MAX_ROUND_CARDS + " cards");
+            }
+            total += cards;
+        }
+        this.cardsPerRound = cardsPerRound.clone();
+        this.cardCount = total;
+
+        // Every per-suit configuration, largest first
+        ArrayList<Integer> suitConfigs = new ArrayList<>();
+        collectSuitConfigs(0, 0, 0, suitConfigs);
+        suitConfigs.sort((a, b) -> Integer.compare(b, a));
+
+        // Every non-increasing choice of four suit configurations that deals exactly cardsPerRound
+        ArrayList<Long> handKeys = new ArrayList<>();
+        collectHandConfigs(suitConfigs, 0, 0, new int[SUITS], handKeys);
+        keys = new long[handKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = handKeys.get(i);
+        }
+        Arrays.sort(keys);
+
+        offsets = new long[keys.length];
+        long next = 0;
+        for (int i = 0; i < keys.length; i++) {
+            offsets[i] = next;
+            next += configurationSize(keys[i]);
+        }
+        size = next;
+    }
+
+    private void collectSuitConfigs(int round, int config, int cards, ArrayList<Integer> out) {
+        if (round == cardsPerRound.length) {
+            out.add(config);
+            return;
+        }
+        for (int count = 0; count <= cardsPerRound[round] && cards + count <= RANKS; count++) {
+            collectSuitConfigs(round + 1, config | count << nibble(round), cards + count, out);
+        }
+    }
+
+    private void collectHandConfigs(ArrayList<Integer> suitConfigs, int suit, int from, int[] chosen, ArrayList<Long> out) {
+        if (suit == SUITS) {
+            for (int round = 0; round < cardsPerRound.length; round++) {
+                int cards = 0;
+                for (int config : chosen) {
+                    cards += roundCount(config, round);
+                }
+                if (cards != cardsPerRound[round]) {
+                    return;
+                }
+            }
+            out.add(packKey(chosen));
+            return;
+        }
+        for (int i = from; i < suitConfigs.size(); i++) {
+            chosen[suit] = suitConfigs.get(i);
+            collectHandConfigs(suitConfigs, suit + 1, i, chosen, out);
+        }
+    }
+
+    // Number of indexes in a hand configuration: one multiset per run of equal suit configurations
+    private long configurationSize(long key) {
+        long total = 1;
+        int suit = 0;
+        while (suit < SUITS) {
+            int config = suitConfig(key, suit);
+            int run = 1;
+            while (suit + run < SUITS && suitConfig(key, suit + run) == config) {
+                run++;
+            }
+            total *= multisetCount(suitSize(config), run);
+            suit += run;
+        }
+        return total;
+    }
+
+    /**
+     * Dense index of a hand's isomorphism class.
+     * @param cards Card codes round by round, e.g. two hole cards followed by the flop.
+     * @return A value from 0 to getSize() - 1; isomorphic hands share it.
+     */
+    public long index(int[] cards) {
+        int[][] sets = rankSets(cards);
+        int[] configs = new int[SUITS];
+        long[] indexes = new long[SUITS];
+        for (int suit = 0; suit < SUITS; suit++) {
+            configs[suit] = config(sets[suit]);
+            indexes[suit] = suitIndex(sets[suit]);
+        }
+        int[] order = sortSuits(configs, indexes);
+
+        int[] sorted = new int[SUITS];
+        for (int i = 0; i < SUITS; i++) {
+            sorted[i] = configs[order[i]];
+        }
+        int block = Arrays.binarySearch(keys, packKey(sorted));
+
+        long index = 0;
+        int i = 0;
+        while (i < SUITS) {
+            int run = 1;
+            while (i + run < SUITS && sorted[i + run] == sorted[i]) {
+                run++;
+            }
+            // Colex rank of the multiset i_1 >= i_2 >= ... via the strictly decreasing i_j + (run - j)
+            long multiset = 0;
+            for (int j = 0; j < run; j++) {
+                int k = run - j;
+                multiset += choose(indexes[order[i + j]] + k - 1, k);
+            }
+            index = index * multisetCount(suitSize(sorted[i]), run) + multiset;
+            i += run;
+        }
+        return offsets[block] + index;
+    }
+
+    /**
+     * Index of a player's hole cards followed by the community cards, in dealing order.
+     * @param hand The hole cards (the first round).
+     * @param communityCards The community cards dealt so far (the remaining rounds).
+     * @return The dense index.
+     */
+    public long index(ArrayList<Card> hand, ArrayList<Card> communityCards) {
+        int[] cards = new int[hand.size() + communityCards.size()];
+        int n = 0;
+        for (Card card : hand) {
+            cards[n++] = card.getCode();
+        }
+        for (Card card : communityCards) {
+            cards[n++] = card.getCode();
+        }
+        return index(cards);
+    }
+
+    /**
+     * Canonical representative of a hand: suits relabelled in a fixed order, and the cards of
+     * each round sorted by code. Isomorphic hands have the same representative.
+     * @param cards Card codes round by round.
+     * @return The canonical card codes, round by round.
+     */
+    public int[] canonicalize(int[] cards) {
+        int[][] sets = rankSets(cards);
+        int[] configs = new int[SUITS];
+        long[] indexes = new long[SUITS];
+        for (int suit = 0; suit < SUITS; suit++) {
+            configs[suit] = config(sets[suit]);
+            indexes[suit] = suitIndex(sets[suit]);
+        }
+        int[] order = sortSuits(configs, indexes);
+        int[][] canonical = new int[SUITS][];
+        for (int i = 0; i < SUITS; i++) {
+            canonical[i] = sets[order[i]];
+        }
+        return toCards(canonical);
+    }
+
+    /**
+     * Canonical representative of the hands with the given index.
+     * @param index A value from 0 to getSize() - 1.
+     * @return The canonical card codes, round by round.
+     */
+    public int[] unindex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+        int block = Arrays.binarySearch(offsets, index);
+        if (block < 0) {
+            block = -block - 2; // The last block starting before index
+        }
+        long remainder = index - offsets[block];
+        int[] sorted = new int[SUITS];
+        for (int suit = 0; suit < SUITS; suit++) {
+            sorted[suit] = suitConfig(keys[block], suit);
+        }
+
+        // Undo the mixed radix from the last run of equal configurations backwards
+        long[] indexes = new long[SUITS];
+        int end = SUITS;
+        while (end > 0) {
+            int start = end - 1;
+            while (start > 0 && sorted[start - 1] == sorted[end - 1]) {
+                start--;
+            }
+            int run = end - start;
+            long radix = multisetCount(suitSize(sorted[start]), run);
+            long multiset = remainder % radix;
+            remainder /= radix;
+            for (int j = 0; j < run; j++) {
+                int k = run - j;
+                long value = largestBelow(multiset, k, suitSize(sorted[start]) + k - 1);
+                multiset -= choose(value, k);
+                indexes[start + j] = value - (k - 1);
+            }
+            end = start;
+        }
+
+        int[][] sets = new int[SUITS][];
+        for (int suit = 0; suit < SUITS; suit++) {
+            sets[suit] = suitSets(sorted[suit], indexes[suit]);
+        }
+        return toCards(sets);
+    }
+
+    /**
+     * Canonical key of an unordered hand (a single round) given as a HandEvaluator suit mask:
+     * the four 13-bit suit masks sorted, largest first. Isomorphic hands share it.
+     * @param suits A HandEvaluator suit mask.
+     * @return The key (52 bits).
+     */
+    public static long canonicalKey(long suits) {
+        int a = (int) suits & 0x1FFF;
+        int b = (int) (suits >>> 16) & 0x1FFF;
+        int c = (int) (suits >>> 32) & 0x1FFF;
+        int d = (int) (suits >>> 48) & 0x1FFF;
+        // Sorting network for four values, largest first
+        if (a < b) { int t = a; a = b; b = t; }
+        if (c < d) { int t = c; c = d; d = t; }
+        if (a < c) { int t = a; a = c; c = t; }
+        if (b < d) { int t = b; b = d; d = t; }
+        if (b < c) { int t = b; b = c; c = t; }
+        return (long) a << 39 | (long) b << 26 | (long) c << 13 | d;
+    }
+
+    public int getRounds() {return cardsPerRound.length;}
+    public int getCardCount() {return cardCount;}
+    public int getCardsInRound(int round) {return cardsPerRound[round];}
+    public int getConfigurationCount() {return keys.length;}
+
+    /**
+     * @return The number of isomorphism classes, i.e. one more than the largest index.
+     */
+    public long getSize() {return size;}
+
+    // Per suit, per round: a 13-bit mask of the ranks dealt
+    private int[][] rankSets(int[] cards) {
+        if (cards.length != cardCount) {
+            throw new IllegalArgumentException("Expected " + cardCount + " cards, got " + cards.length);
+        }
+        int[][] sets = new int[SUITS][cardsPerRound.length];
+        long seen = 0;
+        int n = 0;
+        for (int round = 0; round < cardsPerRound.length; round++) {
+            for (int i = 0; i < cardsPerRound[round]; i++, n++) {
+                int code = cards[n];
+                if (code < 0 || code >= 52) {
+                    throw new IllegalArgumentException("Invalid card code: " + code);
+                }
+                if ((seen & (1L << code)) != 0) {
+                    throw new IllegalArgumentException("Card used twice: " + Card.of(code));
+                }
+                seen |= 1L << code;
+                sets[Card.suitOf(code)][round] |= 1 << Card.rankOf(code);
+            }
+        }
+        return sets;
+    }
+
+    private int[] toCards(int[][] sets) {
+        int[] cards = new int[cardCount];
+        int n = 0;
+        for (int round = 0; round < cardsPerRound.length; round++) {
+            int start = n;
+            for (int suit = 0; suit < SUITS; suit++) {
+                for (int ranks = sets[suit][round]; ranks != 0; ranks &= ranks - 1) {
+                    cards[n++] = Integer.numberOfTrailingZeros(ranks) * 4 + suit;
+                }
+            }
+            Arrays.sort(cards, start, n);
+        }
+        return cards;
+    }
+
+    private int config(int[] sets) {
+        int config = 0;
+        for (int round = 0; round < sets.length; round++) {
+            config |= Integer.bitCount(sets[round]) << nibble(round);
+        }
+        return config;
+    }
+
+    // Index of one suit's rank sets among all sets with the same configuration
+    private static long suitIndex(int[] sets) {
+        long index = 0;
+        int used = 0;
+        for (int set : sets) {
+            int available = RANKS - Integer.bitCount(used);
+            int colex = 0;
+            int j = 1;
+            for (int ranks = set; ranks != 0; ranks &= ranks - 1, j++) {
+                int rank = Integer.numberOfTrailingZeros(ranks);
+                int position = Integer.bitCount(~used & ((1 << rank) - 1)); // Rank among the unused ranks
+                colex += CHOOSE[position][j];
+            }
+            index = index * CHOOSE[available][Integer.bitCount(set)] + colex;
+            used |= set;
+        }
+        return index;
+    }
+
+    private int[] suitSets(int config, long index) {
+        int rounds = cardsPerRound.length;
+        long[] colex = new long[rounds];
+        int[] available = new int[rounds];
+        int used = 0;
+        for (int round = 0; round < rounds; round++) {
+            available[round] = RANKS - used;
+            used += roundCount(config, round);
+        }
+        for (int round = rounds - 1; round >= 0; round--) {
+            long radix = CHOOSE[available[round]][roundCount(config, round)];
+            colex[round] = index % radix;
+            index /= radix;
+        }
+
+        int[] sets = new int[rounds];
+        int usedRanks = 0;
+        for (int round = 0; round < rounds; round++) {
+            long remainder = colex[round];
+            for (int j = roundCount(config, round); j >= 1; j--) {
+                int position = j - 1;
+                while (position + 1 < available[round] && CHOOSE[position + 1][j] <= remainder) {
+                    position++;
+                }
+                remainder -= CHOOSE[position][j];
+                sets[round] |= 1 << nthUnused(usedRanks, position);
+            }
+            usedRanks |= sets[round];
+        }
+        return sets;
+    }
+
+    // The rank of the n-th (from 0) rank not in used
+    private static int nthUnused(int used, int n) {
+        int free = ~used & 0x1FFF;
+        for (int i = 0; i < n; i++) {
+            free &= free - 1;
+        }
+        return Integer.numberOfTrailingZeros(free);
+    }
+
+    // Suits ordered by configuration, then by index, both descending
+    private static int[] sortSuits(int[] configs, long[] indexes) {
+        int[] order = {0, 1, 2, 3};
+        for (int i = 1; i < SUITS; i++) {
+            int suit = order[i];
+            int j = i - 1;
+            while (j >= 0 && (configs[order[j]] < configs[suit]
+                    || configs[order[j]] == configs[suit] && indexes[order[j]] < indexes[suit])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = suit;
+        }
+        return order;
+    }
+
+    // Number of ways to give one suit the configuration's card counts
+    private long suitSize(int config) {
+        long total = 1;
+        int used = 0;
+        for (int round = 0; round < cardsPerRound.length; round++) {
+            int count = roundCount(config, round);
+            total *= CHOOSE[RANKS - used][count];
+            used += count;
+        }
+        return total;
+    }
+
+    // Multisets of the given size drawn from n values: C(n + size - 1, size)
+    private static long multisetCount(long n, int size) {
+        return choose(n + size - 1, size);
+    }
+
+    private static long choose(long n, int k) {
+        if (k < 0 || n < k) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+
+    // The largest v <= max with C(v, k) <= target
+    private static long largestBelow(long target, int k, long max) {
+        long low = k - 1;
+        long high = max;
+        while (low < high) {
+            long middle = (low + high + 1) >>> 1;
+            if (choose(middle, k) <= target) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    // Round 0 goes in the highest nibble so configurations compare round by round
+    private static int nibble(int round) {
+        return 4 * (MAX_ROUNDS - 1 - round);
+    }
+
+    private static int roundCount(int config, int round) {
+        return config >>> nibble(round) & 0xF;
+    }
+
+    private static long packKey(int[] configs) {
+        return (long) configs[0] << 48 | (long) configs[1] << 32 | (long) configs[2] << 16 | configs[3];
+    }
+
+    private static int suitConfig(long key, int suit) {
+        return (int) (key >>> (48 - 16 * suit)) & 0xFFFF;
+    }
+}
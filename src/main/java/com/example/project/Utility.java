@@ -17,9 +17,23 @@ public class Utility{
 
     private static String[] suits  = {"♠","♥","♣", "♦"};
     private static String[] ranks = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    private static String rankSymbols = "23456789TJQKA"; // One character per rank, as in "AKs" or "Th"
+    private static String suitLetters = "shcd"; // One letter per suit, in getSuits() order, as in "Th"
 
     public static String[] getRanks(){return ranks;}
     public static String[] getSuits(){return suits;}
+    public static char getRankSymbol(int rankIndex){return rankSymbols.charAt(rankIndex);}
+    public static char getSuitLetter(int suitIndex){return suitLetters.charAt(suitIndex);}
+
+    // Rank index of a one-character rank symbol ("T" for 10), or -1 if the symbol is unknown
+    public static int getRankSymbolIndex(char symbol){
+        return rankSymbols.indexOf(Character.toUpperCase(symbol));
+    }
+
+    // Suit index of a one-letter suit ("h" for hearts), or -1 if the letter is unknown
+    public static int getSuitLetterIndex(char letter){
+        return suitLetters.indexOf(Character.toLowerCase(letter));
+    }
 
     public static int getRankValue(String rank){
         switch(rank){
@@ -40,6 +54,22 @@ public class Utility{
         return -1;
     }
 
+    // Position of a rank in getRanks(), or -1 if the rank is unknown
+    public static int getRankIndex(String rank){
+        int value = getRankValue(rank);
+        return value < 0 ? -1 : value - 2;
+    }
+
+    // Position of a suit in getSuits(), or -1 if the suit is unknown
+    public static int getSuitIndex(String suit){
+        for (int i = 0; i < suits.length; i++) {
+            if (suits[i].equals(suit)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     public static int getHandRanking(String result){
         switch(result){
             case "Royal Flush": return 11;
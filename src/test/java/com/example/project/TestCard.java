@@ -0,0 +1,43 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class TestCard {
+    @Test
+    public void testEncodingRoundTrip() {
+        for (String suit : Utility.getSuits()) {
+            for (String rank : Utility.getRanks()) {
+                Card card = Card.of(rank, suit);
+                assertEquals(rank, card.getRank());
+                assertEquals(suit, card.getSuit());
+                assertEquals(Utility.getRankValue(rank), card.getRankValue());
+                assertSame(card, Card.of(card.getCode()));
+            }
+        }
+    }
+
+    @Test
+    public void testCodeLayout() {
+        Card aceOfSpades = Card.of("A", "♠");
+        assertEquals(48, aceOfSpades.getCode());
+        assertEquals(12, Card.rankOf(aceOfSpades.getCode()));
+        assertEquals(0, Card.suitOf(aceOfSpades.getCode()));
+        assertEquals(1L << 48, aceOfSpades.getMask());
+    }
+
+    @Test
+    public void testConstructedCardEqualsCachedCard() {
+        Card card = new Card("10", "♦");
+        assertEquals(Card.of("10", "♦"), card);
+        assertEquals(Card.of("10", "♦").hashCode(), card.hashCode());
+        assertEquals("10 of ♦", card.toString());
+    }
+
+    @Test
+    public void testInvalidCard() {
+        assertThrows(IllegalArgumentException.class, () -> new Card("1", "♠"));
+        assertThrows(IllegalArgumentException.class, () -> new Card("A", "x"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class TestDealCodec {
+
+    @Test
+    public void testDealRoundTrip() {
+        assertEquals(20, DealCodec.MAX_DEAL_SIZE);
+        Deck deck = new Deck(3L);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1000 * DealCodec.MAX_DEAL_SIZE);
+        int[][] holes = new int[1000][];
+        int[][] boards = new int[1000][];
+        long textBytes = 0;
+        for (int deal = 0; deal < 1000; deal++) {
+            deck.reshuffle();
+            int players = 2 + deal % 9;
+            holes[deal] = new int[2 * players];
+            boards[deal] = new int[deal % 6];
+            for (int i = 0; i < holes[deal].length; i++) {
+                holes[deal][i] = deck.dealCode();
+                textBytes += Card.of(holes[deal][i]).toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+            for (int i = 0; i < boards[deal].length; i++) {
+                boards[deal][i] = deck.dealCode();
+                textBytes += Card.of(boards[deal][i]).toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+            int before = buffer.position();
+            DealCodec.writeDeal(buffer, holes[deal], players, boards[deal], boards[deal].length);
+            assertEquals(DealCodec.dealSize(players, boards[deal].length), buffer.position() - before);
+        }
+        assertTrue(textBytes > 8L * buffer.position());
+
+        buffer.flip();
+        int[] hole = new int[2 * Showdown.MAX_PLAYERS];
+        int[] board = new int[5];
+        for (int deal = 0; deal < 1000; deal++) {
+            int header = DealCodec.readDeal(buffer, hole, board);
+            assertEquals(holes[deal].length / 2, DealCodec.players(header));
+            assertEquals(boards[deal].length, DealCodec.boardCount(header));
+            assertArrayEquals(holes[deal], Arrays.copyOf(hole, holes[deal].length));
+            assertArrayEquals(boards[deal], Arrays.copyOf(board, boards[deal].length));
+        }
+        assertEquals(0, buffer.remaining());
+        assertThrows(IllegalArgumentException.class,
+                () -> DealCodec.writeDeal(ByteBuffer.allocate(20), new int[] {0, 52, 1, 2}, 2, board, 0));
+        // Two players, no board, every card code 63
+        ByteBuffer corrupt = ByteBuffer.wrap(new byte[] {2 << 3, -1, -1, -1});
+        assertThrows(IllegalArgumentException.class, () -> DealCodec.readDeal(corrupt, hole, board));
+    }
+
+    @Test
+    public void testDeckAndCards() {
+        Deck deck = new Deck(12L);
+        for (int i = 0; i < 7; i++) {
+            deck.dealCard();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        DealCodec.writeDeck(buffer, deck);
+        assertEquals(1 + (45 * 6 + 7) / 8, buffer.position());
+        buffer.flip();
+        Deck restored = new Deck(99L);
+        DealCodec.readDeck(buffer, restored);
+        assertEquals(deck.getCards(), restored.getCards());
+        while (!deck.isEmpty()) {
+            assertEquals(deck.dealCode(), restored.dealCode());
+        }
+        assertTrue(restored.isEmpty());
+
+        ArrayList<Card> cards = new ArrayList<>(Arrays.asList(Card.of(51), Card.of(0), Card.of(17)));
+        buffer.clear();
+        DealCodec.writeCards(buffer, cards);
+        buffer.flip();
+        assertEquals(cards, DealCodec.readCards(buffer));
+    }
+
+    @Test
+    public void testVarintsAndResults() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long[] values = {0, 1, 127, 128, 300, 1L << 35, Long.MAX_VALUE, -1};
+        for (long value : values) {
+            DealCodec.putVarLong(buffer, value);
+        }
+        assertEquals(1 + 1 + 1 + 2 + 2 + 6 + 9 + 10, buffer.position());
+        buffer.flip();
+        for (long value : values) {
+            assertEquals(value, DealCodec.getVarLong(buffer));
+        }
+
+        ShowdownResult showdown = new ShowdownResult();
+        Showdown.evaluate(new int[] {48, 49, 44, 45, 0, 5}, 3, new int[] {50, 51, 20, 30, 10}, 5, showdown);
+        buffer.clear();
+        DealCodec.writeShowdown(buffer, showdown);
+        buffer.flip();
+        ShowdownResult read = new ShowdownResult();
+        DealCodec.readShowdown(buffer, read);
+        assertEquals(showdown.getWinnerMask(), read.getWinnerMask());
+        for (int p = 0; p < 3; p++) {
+            assertEquals(showdown.getStrength(p), read.getStrength(p));
+        }
+
+        SimulationResult result = new Simulation(4, 2).run(5_000, 6L);
+        buffer.clear();
+        DealCodec.writeResult(buffer, result);
+        assertTrue(buffer.position() < 100);
+        buffer.flip();
+        SimulationResult decoded = DealCodec.readResult(buffer);
+        assertEquals(result.getTables(), decoded.getTables());
+        assertEquals(result.getSplitPots(), decoded.getSplitPots());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(result.getSeatWins(seat), decoded.getSeatWins(seat));
+            assertEquals(result.getSeatTies(seat), decoded.getSeatTies(seat));
+        }
+        for (int category = 0; category <= HandEvaluator.STRAIGHT_FLUSH; category++) {
+            assertEquals(result.getCategoryCount(category), decoded.getCategoryCount(category));
+            assertEquals(result.getWinningCategoryCount(category), decoded.getWinningCategoryCount(category));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+public class TestDeck {
+    @Test
+    public void testDealsEveryCardOnce() {
+        Deck deck = new Deck();
+        long seen = 0;
+        for (int i = 0; i < 52; i++) {
+            Card card = deck.dealCard();
+            assertEquals(0, seen & card.getMask());
+            seen |= card.getMask();
+        }
+        assertTrue(deck.isEmpty());
+        assertNull(deck.dealCard());
+        assertEquals(-1, deck.dealCode());
+    }
+
+    @Test
+    public void testResetReturnsDealtCards() {
+        Deck deck = new Deck();
+        int first = deck.dealCode();
+        deck.dealCode();
+        assertEquals(50, deck.remaining());
+        assertEquals(50, deck.getCards().size());
+        deck.reset();
+        assertEquals(52, deck.remaining());
+        assertEquals(first, deck.dealCode());
+    }
+
+    @Test
+    public void testPartialShuffleKeepsDeckComplete() {
+        Deck deck = new Deck();
+        for (int round = 0; round < 100; round++) {
+            deck.reset();
+            deck.partialShuffle(9);
+            long seen = 0;
+            while (!deck.isEmpty()) {
+                seen |= 1L << deck.dealCode();
+            }
+            assertEquals((1L << 52) - 1, seen);
+        }
+    }
+
+    @Test
+    public void testShuffleOnlyTouchesUndealtCards() {
+        Deck deck = new Deck();
+        int first = deck.dealCode();
+        deck.shuffleDeck();
+        deck.reset();
+        assertEquals(first, deck.dealCode());
+    }
+
+    @Test
+    public void testSeededDecksDealTheSameCards() {
+        Deck a = new Deck(42L);
+        Deck b = new Deck(42L);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 52; i++) {
+                assertEquals(a.dealCode(), b.dealCode());
+            }
+            a.reshuffle();
+            b.reshuffle();
+        }
+    }
+
+    @Test
+    public void testSplitDecksAreReproducible() {
+        Deck a = new Deck(7L).split();
+        Deck b = new Deck(7L).split();
+        for (int i = 0; i < 52; i++) {
+            assertEquals(a.dealCode(), b.dealCode());
+        }
+    }
+
+    @Test
+    public void testDealStreamSeeksToTrials() {
+        DealStream stream = new DealStream(3L);
+        stream.seek(5);
+        long first = stream.nextLong();
+        stream.seek(9);
+        long other = stream.nextLong();
+        stream.nextLong();
+        stream.seek(5);
+        assertEquals(first, stream.nextLong());
+        assertTrue(first != other);
+
+        // The same trial deals the same cards whatever the deck dealt before
+        Deck deck = new Deck(stream);
+        stream.seek(5);
+        deck.resetOrdered();
+        deck.partialShuffle(7);
+        int[] expected = new int[7];
+        for (int i = 0; i < 7; i++) {
+            expected[i] = deck.dealCode();
+        }
+        deck.reshuffle();
+        deck.dealCode();
+        stream.seek(5);
+        deck.resetOrdered();
+        assertEquals(52, deck.remaining());
+        deck.partialShuffle(7);
+        for (int i = 0; i < 7; i++) {
+            assertEquals(expected[i], deck.dealCode());
+        }
+    }
+
+    @Test
+    public void testResetOrderedUndoesShuffles() {
+        Deck deck = new Deck(9L);
+        deck.removeCard(Card.encode("A", "♠")); // Taken out for good, as in EquityCalculator
+        for (int round = 0; round < 200; round++) {
+            if (round % 50 == 49) {
+                deck.shuffleDeck(); // Not undoable: the order is rebuilt
+            }
+            deck.resetOrdered();
+            ArrayList<Card> cards = deck.getCards();
+            assertEquals(51, cards.size());
+            for (int i = 1; i < cards.size(); i++) {
+                assertTrue(cards.get(i - 1).getCode() < cards.get(i).getCode());
+            }
+            deck.partialShuffle(2 + round % 20);
+            deck.dealCode();
+            deck.partialShuffle(round % 40); // More swaps than the log holds in some rounds
+        }
+    }
+}
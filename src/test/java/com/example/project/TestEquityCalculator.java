@@ -0,0 +1,141 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+public class TestEquityCalculator {
+
+    private static int code(String rank, String suit) {
+        return Card.encode(rank, suit);
+    }
+
+    @Test
+    public void testAcesAgainstKings() {
+        EquityCalculator calculator = new EquityCalculator(1L);
+        int[] hole = {code("A", "♥"), code("A", "♠"), code("K", "♦"), code("K", "♣")};
+        EquityResult result = calculator.calculate(hole, new int[0], new int[0], 200_000, 0);
+        assertEquals(200_000, result.getTrials());
+        assertEquals(82.0, result.getEquity(0), 1.0); // Known value: about 82%
+        assertEquals(100.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+        assertEquals(100.0, result.getWinPercentage(0) + result.getTiePercentage(0) + result.getLossPercentage(0), 1e-9);
+    }
+
+    @Test
+    public void testCompleteBoardIsDecided() {
+        EquityCalculator calculator = new EquityCalculator(2L);
+        int[] hole = {code("A", "♥"), code("K", "♥"), code("Q", "♦"), code("Q", "♣")};
+        int[] board = {code("2", "♥"), code("7", "♥"), code("9", "♥"), code("J", "♣"), code("3", "♠")};
+        EquityResult result = calculator.calculate(hole, board, new int[0], 1000, 0);
+        assertEquals(100.0, result.getWinPercentage(0), 1e-9);
+        assertEquals(100.0, result.getLossPercentage(1), 1e-9);
+    }
+
+    @Test
+    public void testRandomOpponentAndEarlyStop() {
+        EquityCalculator calculator = new EquityCalculator(3L);
+        int[] hole = {code("A", "♥"), code("A", "♠"), EquityCalculator.UNKNOWN, EquityCalculator.UNKNOWN};
+        EquityResult result = calculator.calculate(hole, new int[0], new int[0], 10_000_000, 0.5);
+        assertTrue(result.getTrials() < 10_000_000);
+        assertTrue(result.getConfidenceInterval(0) <= 0.5);
+        assertEquals(85.2, result.getEquity(0), 1.5); // Known value: about 85%
+    }
+
+    @Test
+    public void testPlayersAndDeadCards() {
+        Player player1 = new Player();
+        player1.addCard(new Card("9", "♠"));
+        player1.addCard(new Card("9", "♦"));
+        Player player2 = new Player();
+        player2.addCard(new Card("A", "♣"));
+        player2.addCard(new Card("K", "♣"));
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        ArrayList<Card> board = new ArrayList<>();
+        board.add(new Card("9", "♣"));
+        board.add(new Card("2", "♣"));
+        board.add(new Card("7", "♥"));
+        ArrayList<Card> dead = new ArrayList<>();
+        dead.add(new Card("9", "♥"));
+
+        EquityResult result = new EquityCalculator(4L).calculate(players, board, dead, 50_000, 0);
+        assertTrue(result.getEquity(0) > result.getEquity(1));
+    }
+
+    @Test
+    public void testDuplicateCardRejected() {
+        int[] hole = {code("A", "♥"), code("A", "♠"), code("A", "♥"), code("K", "♣")};
+        assertThrows(IllegalArgumentException.class,
+                () -> new EquityCalculator().calculate(hole, new int[0], new int[0], 10, 0));
+        // An out-of-range code is reported as such, not as an ArrayIndexOutOfBoundsException from Card.of
+        int[] invalid = {code("A", "♥"), 60, code("K", "♦"), code("K", "♣")};
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new EquityCalculator().calculate(invalid, new int[0], new int[0], 10, 0));
+        assertEquals("Invalid card code: 60", e.getMessage());
+        // UNKNOWN is only a hole card placeholder
+        int[] known = {code("A", "♥"), code("A", "♠"), code("K", "♦"), code("K", "♣")};
+        int[] board = {code("2", "♣"), EquityCalculator.UNKNOWN, code("9", "♦")};
+        assertThrows(IllegalArgumentException.class,
+                () -> new EquityCalculator().calculate(known, board, new int[0], 10, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EquityCalculator().calculate(known, new int[0], new int[] {EquityCalculator.UNKNOWN}, 10, 0));
+    }
+
+    @Test
+    public void testEnumerationCountsEveryPreflopBoard() {
+        int[] hole = {code("A", "♥"), code("A", "♠"), code("K", "♦"), code("K", "♣")};
+        EquityResult result = new EquityEnumerator().enumerate(hole, new int[0], new int[0]);
+        assertEquals(1_712_304, result.getTrials()); // C(48, 5)
+        assertTrue(result.isExact());
+        assertEquals(0.0, result.getConfidenceInterval(0));
+        assertEquals(result.getTrials(), result.getWins(0) + result.getTies(0) + result.getLosses(0));
+        assertEquals(82.0, result.getEquity(0), 1.0);
+    }
+
+    @Test
+    public void testEnumerationMatchesNestedLoops() {
+        int[] hole = {code("J", "♥"), code("10", "♥"), code("A", "♠"), code("Q", "♣"), code("5", "♦"), code("5", "♣")};
+        int[] board = {code("9", "♥"), code("Q", "♥"), code("2", "♠")};
+        int[] dead = {code("8", "♥")};
+        EquityResult result = new EquityEnumerator().enumerate(hole, board, dead);
+
+        long used = 0;
+        for (int c : hole) used |= 1L << c;
+        for (int c : board) used |= 1L << c;
+        for (int c : dead) used |= 1L << c;
+        long[] wins = new long[3];
+        long boards = 0;
+        for (int turn = 0; turn < 52; turn++) {
+            for (int river = turn + 1; river < 52; river++) {
+                if ((used & (1L << turn)) != 0 || (used & (1L << river)) != 0) continue;
+                int[] strengths = new int[3];
+                for (int p = 0; p < 3; p++) {
+                    strengths[p] = HandEvaluator.evaluate(hole[2 * p], hole[2 * p + 1],
+                            board[0], board[1], board[2], turn, river);
+                }
+                int best = Math.max(strengths[0], Math.max(strengths[1], strengths[2]));
+                int winners = 0;
+                for (int strength : strengths) if (strength == best) winners++;
+                for (int p = 0; p < 3; p++) if (winners == 1 && strengths[p] == best) wins[p]++;
+                boards++;
+            }
+        }
+        assertEquals(boards, result.getTrials());
+        for (int p = 0; p < 3; p++) {
+            assertEquals(wins[p], result.getWins(p));
+        }
+    }
+
+    @Test
+    public void testUnrankFollowsLexicographicOrder() {
+        int[] walked = {0, 1, 2};
+        int[] unranked = new int[3];
+        for (long rank = 0; rank < 1140; rank++) { // C(20, 3)
+            EquityEnumerator.unrank(rank, 20, 3, unranked);
+            assertEquals(java.util.Arrays.toString(walked), java.util.Arrays.toString(unranked));
+            assertEquals(rank < 1139, EquityEnumerator.nextCombination(walked, 20, 3));
+        }
+    }
+}
@@ -27,6 +27,8 @@ public class TestGame {
         String winner = Game.determineWinner(player1, player2, p1Result, p2Result, communityCards);
         
         assertEquals("Player 1 wins!", winner); // Player 1 should win with a pair of Aces
+        // The hand names are ignored; only the cards decide
+        assertEquals("Player 1 wins!", Game.determineWinner(player1, player2, "High Card", "Royal Flush", communityCards));
     }
 
     @Test // Test case where Player 2 wins with higher high card
@@ -311,4 +313,86 @@ public class TestGame {
         assertEquals("Player 2 wins!", winner);
     }   
 
-}
+    @Test // Paired board: both players hold the same two pair, the fifth card decides
+    public void testPairedBoardKicker_Player1Wins() {
+        Player player1 = new Player();
+        Player player2 = new Player();
+
+        player1.addCard(new Card("K", "♠"));
+        player1.addCard(new Card("2", "♦"));
+
+        player2.addCard(new Card("Q", "♠"));
+        player2.addCard(new Card("3", "♦"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("9", "♣"));
+        communityCards.add(new Card("9", "♥"));
+        communityCards.add(new Card("5", "♠"));
+        communityCards.add(new Card("5", "♦"));
+        communityCards.add(new Card("4", "♣"));
+
+        String p1Result = player1.playHand(communityCards);
+        String p2Result = player2.playHand(communityCards);
+
+        assertEquals("Two Pair", p1Result);
+        assertEquals("Two Pair", p2Result);
+        assertEquals("Player 1 wins!", Game.determineWinner(player1, player2, p1Result, p2Result, communityCards));
+        assertEquals("Player 1 wins!", Game.determineWinner(player1.getHandStrength(), player2.getHandStrength()));
+    }
+
+    @Test // Equal strengths are a tie
+    public void testStrengthComparison_Tie() {
+        assertEquals("Tie!", Game.determineWinner(1234, 1234));
+        assertEquals("Player 2 wins!", Game.determineWinner(1234, 1235));
+    }
+
+    @Test // A reused deck plays complete rounds without printing
+    public void testPlayWithReusedDeck() {
+        Deck deck = new Deck(3L);
+        for (int i = 0; i < 100; i++) {
+            String result = Game.play(deck);
+            assertTrue(result.equals("Player 1 wins!") || result.equals("Player 2 wins!") || result.equals("Tie!"));
+        }
+    }
+
+    @Test // Three players: two share the best straight and split the pot
+    public void testThreePlayerSplitPot() {
+        ArrayList<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            players.add(new Player());
+        }
+        players.get(0).addCard(new Card("J", "♠"));
+        players.get(0).addCard(new Card("2", "♦"));
+        players.get(1).addCard(new Card("J", "♥"));
+        players.get(1).addCard(new Card("3", "♦"));
+        players.get(2).addCard(new Card("A", "♣"));
+        players.get(2).addCard(new Card("A", "♦"));
+
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("7", "♦"));
+        communityCards.add(new Card("8", "♠"));
+        communityCards.add(new Card("9", "♥"));
+        communityCards.add(new Card("10", "♣"));
+        communityCards.add(new Card("K", "♠"));
+
+        ShowdownResult result = Game.determineWinners(players, communityCards);
+        assertEquals(0b011, result.getWinnerMask());
+        assertTrue(result.isSplitPot());
+        assertFalse(result.isWinner(2));
+        assertEquals(HandEvaluator.STRAIGHT, HandEvaluator.getCategory(result.getBestStrength()));
+    }
+
+    @Test // Primitive showdown over codes agrees with the Player-based one
+    public void testShowdownOverCodes() {
+        int[] hole = {Card.encode("A", "♣"), Card.encode("A", "♦"), Card.encode("K", "♣"), Card.encode("K", "♦"),
+                Card.encode("2", "♣"), Card.encode("7", "♦"), Card.encode("Q", "♣"), Card.encode("Q", "♦")};
+        int[] board = {Card.encode("K", "♠"), Card.encode("4", "♥"), Card.encode("9", "♠"),
+                Card.encode("2", "♠"), Card.encode("3", "♦")};
+        ShowdownResult result = new ShowdownResult();
+        Showdown.evaluate(hole, 4, board, 5, result);
+        assertEquals(4, result.getPlayerCount());
+        assertEquals(1 << 1, result.getWinnerMask());
+        assertEquals(HandEvaluator.THREE_OF_A_KIND, HandEvaluator.getCategory(result.getStrength(1)));
+    }
+
+}
\ No newline at end of file
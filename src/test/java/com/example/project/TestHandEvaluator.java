@@ -0,0 +1,214 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TestHandEvaluator {
+
+    private static int[] codes(String... cards) {
+        int[] result = new int[cards.length];
+        for (int i = 0; i < cards.length; i++) {
+            String rank = cards[i].substring(0, cards[i].length() - 1);
+            String suit = cards[i].substring(cards[i].length() - 1);
+            result[i] = Card.encode(rank, suit);
+        }
+        return result;
+    }
+
+    private static int evaluate(String... cards) {
+        int[] c = codes(cards);
+        return HandEvaluator.evaluate(c, 0, c.length);
+    }
+
+    // Straightforward scorer for exactly five cards: category, then ranks by (count, rank) descending
+    private static long referenceFive(int[] five) {
+        int[] counts = new int[13];
+        boolean flush = true;
+        for (int code : five) {
+            counts[Card.rankOf(code)]++;
+            flush &= Card.suitOf(code) == Card.suitOf(five[0]);
+        }
+        int straightHigh = -1;
+        for (int high = 12; high >= 4 && straightHigh < 0; high--) {
+            boolean run = true;
+            for (int r = high - 4; r <= high; r++) run &= counts[r] == 1;
+            if (run) straightHigh = high;
+        }
+        if (straightHigh < 0 && counts[12] == 1 && counts[0] == 1 && counts[1] == 1 && counts[2] == 1 && counts[3] == 1) {
+            straightHigh = 3;
+        }
+        long ranks = 0;
+        for (int count = 4; count >= 1; count--) {
+            for (int r = 12; r >= 0; r--) {
+                if (counts[r] == count) ranks = ranks * 16 + r + 1;
+            }
+        }
+        int[] sorted = counts.clone();
+        Arrays.sort(sorted);
+        int category;
+        if (straightHigh >= 0 && flush) category = 8;
+        else if (sorted[12] == 4) category = 7;
+        else if (sorted[12] == 3 && sorted[11] == 2) category = 6;
+        else if (flush) category = 5;
+        else if (straightHigh >= 0) category = 4;
+        else if (sorted[12] == 3) category = 3;
+        else if (sorted[12] == 2 && sorted[11] == 2) category = 2;
+        else if (sorted[12] == 2) category = 1;
+        else category = 0;
+        if (category == 8 || category == 4) ranks = straightHigh + 1;
+        return ((long) category << 24) | ranks;
+    }
+
+    private static long referenceSeven(int[] seven) {
+        long best = -1;
+        int[] five = new int[5];
+        for (int skipA = 0; skipA < 7; skipA++) {
+            for (int skipB = skipA + 1; skipB < 7; skipB++) {
+                int n = 0;
+                for (int i = 0; i < 7; i++) {
+                    if (i != skipA && i != skipB) five[n++] = seven[i];
+                }
+                best = Math.max(best, referenceFive(five));
+            }
+        }
+        return best;
+    }
+
+    private static int[] randomHand(Random random, int size) {
+        long used = 0;
+        int[] hand = new int[size];
+        for (int i = 0; i < size; i++) {
+            int code;
+            do {
+                code = random.nextInt(52);
+            } while ((used & (1L << code)) != 0);
+            used |= 1L << code;
+            hand[i] = code;
+        }
+        return hand;
+    }
+
+    @Test
+    public void testCategories() {
+        assertEquals(HandEvaluator.STRAIGHT_FLUSH, HandEvaluator.getCategory(evaluate("10♠", "J♠", "Q♠", "K♠", "A♠", "2♦", "3♣")));
+        assertTrue(HandEvaluator.isRoyalFlush(evaluate("10♠", "J♠", "Q♠", "K♠", "A♠", "2♦", "3♣")));
+        assertEquals(HandEvaluator.FOUR_OF_A_KIND, HandEvaluator.getCategory(evaluate("9♠", "9♦", "9♣", "9♥", "A♦")));
+        assertEquals(HandEvaluator.FULL_HOUSE, HandEvaluator.getCategory(evaluate("9♠", "9♦", "9♣", "A♥", "A♦", "A♠", "2♣")));
+        assertEquals(HandEvaluator.FLUSH, HandEvaluator.getCategory(evaluate("2♥", "5♥", "9♥", "J♥", "K♥", "K♠", "K♦")));
+        assertEquals(HandEvaluator.STRAIGHT, HandEvaluator.getCategory(evaluate("A♠", "2♦", "3♣", "4♥", "5♠", "9♦", "J♣")));
+        assertEquals(HandEvaluator.THREE_OF_A_KIND, HandEvaluator.getCategory(evaluate("8♠", "8♦", "8♣", "5♠", "A♣")));
+        assertEquals(HandEvaluator.TWO_PAIR, HandEvaluator.getCategory(evaluate("7♠", "7♦", "8♣", "8♥", "A♠", "A♦", "2♣")));
+        assertEquals(HandEvaluator.ONE_PAIR, HandEvaluator.getCategory(evaluate("5♠", "5♦", "3♣", "7♥", "A♠")));
+        assertEquals(HandEvaluator.HIGH_CARD, HandEvaluator.getCategory(evaluate("3♠", "6♦", "5♣", "2♠", "A♠")));
+    }
+
+    @Test
+    public void testKickersBreakTies() {
+        assertTrue(evaluate("A♠", "A♦", "K♣", "7♥", "2♠") > evaluate("A♣", "A♥", "Q♣", "J♥", "10♠"));
+        assertTrue(evaluate("6♠", "7♦", "8♣", "9♥", "10♠") > evaluate("A♠", "2♦", "3♣", "4♥", "5♠"));
+        assertEquals(evaluate("K♠", "K♦", "4♣", "4♥", "9♠", "2♣", "3♦"), evaluate("K♣", "K♥", "4♠", "4♦", "9♦", "2♦", "3♣"));
+    }
+
+    @Test
+    public void testMatchesReferenceOnRandomHands() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            int[] a = randomHand(random, 7);
+            int[] b = randomHand(random, 7);
+            int strengthA = HandEvaluator.evaluate(a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+            int strengthB = HandEvaluator.evaluate(b, 0, 7);
+            long referenceA = referenceSeven(a);
+            long referenceB = referenceSeven(b);
+            assertEquals(referenceA >> 24, HandEvaluator.getCategory(strengthA));
+            assertEquals(Long.signum(referenceA - referenceB), Integer.signum(strengthA - strengthB));
+        }
+    }
+
+    @Test
+    public void testCardListsMatchCodes() {
+        ArrayList<Card> hand = new ArrayList<>();
+        hand.add(Card.of("Q", "♠"));
+        hand.add(Card.of("Q", "♥"));
+        ArrayList<Card> board = new ArrayList<>();
+        board.add(Card.of("2", "♣"));
+        board.add(Card.of("Q", "♦"));
+        board.add(Card.of("7", "♠"));
+        assertEquals(evaluate("Q♠", "Q♥", "2♣", "Q♦", "7♠"), HandEvaluator.evaluate(hand, board));
+    }
+
+    @Test
+    public void testBatchMatchesSingleEvaluation() {
+        Random random = new Random(11);
+        int hands = 1000;
+        int[] cards = new int[hands * 7];
+        long[] packed = new long[hands];
+        for (int hand = 0; hand < hands; hand++) {
+            System.arraycopy(randomHand(random, 7), 0, cards, hand * 7, 7);
+            packed[hand] = BatchEvaluator.pack(cards, hand * 7);
+            assertEquals(cards[hand * 7 + 6], BatchEvaluator.unpack(packed[hand], 6));
+        }
+        int[] fromCodes = new int[hands + 1];
+        int[] fromPacked = new int[hands];
+        BatchEvaluator.evaluate(cards, 0, fromCodes, 1, hands);
+        BatchEvaluator.evaluate(packed, 0, fromPacked, 0, hands);
+        for (int hand = 0; hand < hands; hand++) {
+            int expected = HandEvaluator.evaluate(cards, hand * 7, 7);
+            assertEquals(expected, fromCodes[hand + 1]);
+            assertEquals(expected, fromPacked[hand]);
+        }
+    }
+
+    @Test
+    public void testIncrementalStateAcrossStreets() {
+        int[] cards = codes("A♠", "K♠", "A♦", "7♣", "K♥", "A♣", "2♠");
+        HandState state = new HandState();
+        for (int street = 0; street < cards.length; street++) {
+            state.add(cards[street]);
+            assertEquals(HandEvaluator.evaluate(cards, 0, street + 1), state.getStrength());
+        }
+        assertEquals(HandEvaluator.FULL_HOUSE, state.getCategory());
+        assertEquals(3, state.getRankCount(12));
+        assertEquals(3, state.getSuitCount(0));
+        assertEquals((1 << 12) | (1 << 11) | (1 << 5) | 1, state.getRankMask());
+
+        HandState turn = new HandState(state);
+        turn.remove(cards[6]);
+        turn.remove(cards[5]);
+        assertEquals(HandEvaluator.TWO_PAIR, turn.getCategory());
+        assertEquals(HandEvaluator.FULL_HOUSE, state.getCategory());
+        assertThrows(IllegalArgumentException.class, () -> turn.add(52));
+        assertThrows(IllegalArgumentException.class, () -> turn.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> turn.remove(64));
+        assertEquals(5, turn.getCardCount());
+    }
+
+    @Test
+    public void testStrengthCacheMatchesEvaluator() {
+        assertEquals(4, new HandStrengthCache(3).getCapacity());
+        assertEquals(4, new HandStrengthCache(4).getCapacity());
+        assertEquals(8, new HandStrengthCache(5).getCapacity());
+        assertEquals(64, new HandStrengthCache(64).getCapacity());
+        assertEquals(4, new HandStrengthCache(1).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new HandStrengthCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new HandStrengthCache(-8));
+        HandStrengthCache cache = new HandStrengthCache(64); // Small enough to force evictions
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; i++) {
+            int[] cards = randomHand(random, 7);
+            assertEquals(HandEvaluator.evaluate(cards, 0, 7), cache.getStrength(cards, 0, 7));
+        }
+        assertTrue(cache.getEvictions() > 0);
+
+        // A suit permutation of a cached hand is a hit
+        long hits = cache.getHits();
+        int[] hand = codes("A♠", "K♠", "Q♠", "J♠", "9♠", "2♥", "3♣");
+        int[] swapped = codes("A♦", "K♦", "Q♦", "J♦", "9♦", "2♣", "3♥");
+        assertEquals(cache.getStrength(hand, 0, 7), cache.getStrength(swapped, 0, 7));
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(5002, cache.getHits() + cache.getMisses());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestHandHistoryReader {
+
+    @Test
+    public void testTextHistory(@TempDir Path dir) throws IOException {
+        String history = "# Daily log\n"
+                + "AhKd QsQc | 2d7hQhTcJd\n"   // Broadway straight for player 1
+                + "\n"
+                + "2s2c 3s3c|AhAdKhKdQh  # board plays\n"
+                + "AhKd | 2d7h9s\n"            // Only one player
+                + "AhKd QsXc | 2d7h9s\n"       // Unknown suit
+                + "AhKd AhQc | 2d7h9s\n"       // Duplicate card
+                + "AsAc 9d8d 7h7s | 2d3d4d\r\n";
+        Path file = dir.resolve("hands.txt");
+        Files.write(file, history.getBytes(StandardCharsets.UTF_8));
+
+        HandHistoryReader reader = new HandHistoryReader();
+        ArrayList<String> results = new ArrayList<>();
+        HandHistoryStats stats = new HandHistoryStats();
+        assertEquals(3, reader.readText(file, (holeCards, players, board, boardCount, showdown) -> {
+            stats.onHand(holeCards, players, board, boardCount, showdown);
+            results.add(players + ":" + boardCount + ":" + showdown.getWinnerMask());
+        }));
+        assertEquals(Arrays.asList("2:5:1", "2:5:3", "3:3:2"), results);
+        assertEquals(3, reader.getSkipped());
+        assertEquals(1, stats.getSplitPots());
+        assertEquals(1, stats.getWinningCategoryCount(HandEvaluator.STRAIGHT));
+        assertEquals(1, stats.getWinningCategoryCount(HandEvaluator.FLUSH));
+        assertEquals(1, stats.getWinningCategoryCount(HandEvaluator.TWO_PAIR));
+        assertEquals(1, stats.getClassWins(StartingHand.classIndex("AKo")));
+        assertEquals(1, stats.getClassDealt(StartingHand.classIndex("QQ")));
+    }
+
+    @Test
+    public void testSmallBufferAndLongLines(@TempDir Path dir) throws IOException {
+        StringBuilder history = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            history.append("AhKd QsQc | 2d7hQhTcJd\n");
+            if (i % 50 == 0) {
+                history.append("# ").append("x".repeat(100)).append('\n'); // Longer than the buffer
+            }
+        }
+        history.append("AhKd QsQc | 2d7hQhTcJd"); // No final newline
+        Path file = dir.resolve("hands.txt");
+        Files.write(file, history.toString().getBytes(StandardCharsets.UTF_8));
+
+        HandHistoryReader reader = new HandHistoryReader(32);
+        HandHistoryStats stats = new HandHistoryStats();
+        assertEquals(201, reader.readText(file, stats));
+        assertEquals(4, reader.getSkipped());
+        assertEquals(201, stats.getWinningCategoryCount(HandEvaluator.STRAIGHT));
+    }
+
+    @Test
+    public void testBinaryMatchesText(@TempDir Path dir) throws IOException {
+        Deck deck = new Deck(9L);
+        StringBuilder text = new StringBuilder();
+        ByteBuffer binary = ByteBuffer.allocate(1000 * 27);
+        int[] hole = new int[6];
+        int[] board = new int[5];
+        for (int hand = 0; hand < 1000; hand++) {
+            deck.reshuffle();
+            for (int i = 0; i < hole.length; i++) {
+                hole[i] = deck.dealCode();
+                text.append(Utility.getRankSymbol(Card.rankOf(hole[i]))).append(Utility.getSuitLetter(Card.suitOf(hole[i])));
+                text.append(i % 2 == 1 ? " " : "");
+            }
+            text.append('|');
+            for (int i = 0; i < board.length; i++) {
+                board[i] = deck.dealCode();
+                text.append(Utility.getRankSymbol(Card.rankOf(board[i]))).append(Utility.getSuitLetter(Card.suitOf(board[i])));
+            }
+            text.append('\n');
+            HandHistoryReader.writeRecord(binary, hole, 3, board, 5);
+        }
+        Path textFile = dir.resolve("hands.txt");
+        Path binaryFile = dir.resolve("hands.bin");
+        Files.write(textFile, text.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(binaryFile, Arrays.copyOf(binary.array(), binary.position()));
+
+        HandHistoryStats fromText = new HandHistoryStats();
+        HandHistoryStats fromBinary = new HandHistoryStats();
+        new HandHistoryReader().readText(textFile, fromText);
+        assertEquals(1000, new HandHistoryReader(64).readBinary(binaryFile, fromBinary));
+        assertEquals(fromText.toString(), fromBinary.toString());
+        for (int classIndex = 0; classIndex < StartingHand.CLASS_COUNT; classIndex++) {
+            assertEquals(fromText.getClassWins(classIndex), fromBinary.getClassWins(classIndex));
+        }
+
+        Files.write(binaryFile, Arrays.copyOf(binary.array(), binary.position() - 1));
+        assertThrows(IOException.class, () -> new HandHistoryReader().readBinary(binaryFile, fromBinary));
+        assertTrue(fromBinary.getHands() >= 1000);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+public class TestMetrics {
+
+    @Test
+    public void testSimulationIsCounted() {
+        SimulationMetrics metrics = new SimulationMetrics();
+        Metrics.setRecorder(metrics);
+        try {
+            SimulationResult result = new Simulation(6, 2).run(10_000, 4L);
+            assertEquals(10_000, metrics.getShowdowns());
+            assertEquals(60_000, metrics.getEvaluations());
+            assertEquals(60_000, Arrays.stream(metrics.getCategoryCounts()).sum());
+            assertEquals(result.getCategoryCount(HandEvaluator.FLUSH), metrics.getCategoryCounts()[HandEvaluator.FLUSH]);
+            assertEquals(result.getSplitPots(), metrics.getSplitPots());
+            assertEquals(10_002, metrics.getDeckShuffles()); // Plus the first shuffle of each worker's new deck
+            // Every table whose number is a multiple of 64 is timed
+            assertEquals(157, metrics.getPhaseCounts()[MetricsRecorder.PHASE_DEAL]);
+            assertEquals(0, metrics.getPhaseCounts()[MetricsRecorder.PHASE_EVALUATE]);
+            assertTrue(metrics.getEvaluationsPerSecond() > 0);
+        } finally {
+            Metrics.setRecorder(null);
+        }
+        assertSame(MetricsRecorder.NOOP, Metrics.recorder());
+        new Simulation(2, 1).run(100, 1L);
+        assertEquals(10_000, metrics.getShowdowns());
+    }
+
+    @Test
+    public void testGamePhasesOverJmx() throws Exception {
+        SimulationMetrics metrics = new SimulationMetrics();
+        Metrics.setRecorder(metrics);
+        metrics.register();
+        try {
+            Deck deck = new Deck(6L);
+            for (int round = 0; round < 100; round++) {
+                Game.play(deck);
+            }
+            assertEquals(100, metrics.getPhaseCounts()[MetricsRecorder.PHASE_EVALUATE]);
+            assertEquals(100, Arrays.stream(metrics.getEvaluateLatencyHistogram()).sum());
+            assertEquals(100, metrics.getShowdowns());
+            assertEquals(200, metrics.getEvaluations()); // Counted by playHand, not again at the showdown
+            assertEquals(200, Arrays.stream(metrics.getCategoryCounts()).sum());
+            assertTrue(metrics.getMeanPhaseNanos()[MetricsRecorder.PHASE_DEAL] > 0);
+            assertEquals(101, metrics.getDeckShuffles()); // Plus the first shuffle of the new deck
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(101L, server.getAttribute(new ObjectName(SimulationMetrics.OBJECT_NAME), "DeckShuffles"));
+            server.invoke(new ObjectName(SimulationMetrics.OBJECT_NAME), "reset", null, null);
+            assertEquals(0, metrics.getDeckShuffles());
+        } finally {
+            metrics.unregister();
+            Metrics.setRecorder(null);
+        }
+    }
+
+    @Test
+    public void testEvaluationEntryPointsAreCounted() {
+        SimulationMetrics metrics = new SimulationMetrics();
+        Metrics.setRecorder(metrics);
+        try {
+            int[] cards = {0, 5, 10, 15, 20, 25, 30, 1, 6, 11, 16, 21, 26, 31};
+            BatchEvaluator.evaluate(cards, 0, new int[2], 0, 2);
+            assertEquals(2, metrics.getEvaluations());
+
+            HandStrengthCache cache = new HandStrengthCache(16);
+            cache.getStrength(cards, 0, 7);
+            cache.getStrength(cards, 0, 7);
+            assertEquals(1, cache.getHits());
+            assertEquals(4, metrics.getEvaluations());
+
+            Player player = new Player();
+            player.addCard(Card.of(0));
+            player.addCard(Card.of(5));
+            ArrayList<Card> board = new ArrayList<>();
+            for (int code : new int[] {10, 15, 20, 25}) {
+                board.add(Card.of(code));
+            }
+            player.playHand(board);
+            assertEquals(5, metrics.getEvaluations());
+
+            OutsAnalyzer.analyze(player, board); // The current hand and each of 46 river cards
+            assertEquals(52, metrics.getEvaluations());
+
+            board.add(Card.of(30));
+            new RangeEquity().calculate(HandRange.parse("AA"), HandRange.parse("KK"), EquityCalculator.codes(board),
+                    new int[0], 0, 1); // One board, six combos each
+            assertEquals(64, metrics.getEvaluations());
+            assertEquals(0, metrics.getShowdowns());
+        } finally {
+            Metrics.setRecorder(null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TestOutsAnalyzer {
+
+    @Test
+    public void testFlushDraw() {
+        Player player = new Player();
+        player.addCard(new Card("A", "♥"));
+        player.addCard(new Card("K", "♥"));
+        ArrayList<Card> flop = new ArrayList<>();
+        flop.add(new Card("2", "♥"));
+        flop.add(new Card("7", "♥"));
+        flop.add(new Card("9", "♣"));
+
+        OutsResult outs = OutsAnalyzer.analyze(player, flop);
+        assertEquals(HandEvaluator.HIGH_CARD, outs.getCategory());
+        assertEquals(47, outs.getUnseenCount());
+        assertEquals(9, outs.getOuts(HandEvaluator.FLUSH));
+        assertEquals(14, outs.getOuts(HandEvaluator.ONE_PAIR)); // Aces, kings and board pairs; the 9♥ makes a flush
+        assertEquals(23, outs.getOuts());
+        assertEquals(23, outs.getOutCards().size());
+        assertEquals(23.0 / 47, outs.getNextCardProbability(), 1e-12);
+        // No heart in 47 choose 2 runouts: 38 choose 2 of them
+        assertEquals(1 - 703.0 / 1081, outs.getRiverProbability(HandEvaluator.FLUSH), 1e-12);
+    }
+
+    @Test
+    public void testMatchesEvaluator() {
+        Random random = new Random(8);
+        for (int trial = 0; trial < 200; trial++) {
+            Deck deck = new Deck(random.nextLong());
+            int[] hole = {deck.dealCode(), deck.dealCode()};
+            int[] board = new int[3 + trial % 2];
+            for (int i = 0; i < board.length; i++) {
+                board[i] = deck.dealCode();
+            }
+            int[] dead = {deck.dealCode()};
+            OutsResult outs = OutsAnalyzer.analyze(hole, board, dead);
+
+            int[] cards = new int[7];
+            System.arraycopy(hole, 0, cards, 0, 2);
+            System.arraycopy(board, 0, cards, 2, board.length);
+            int category = HandEvaluator.getCategory(HandEvaluator.evaluate(cards, 0, board.length + 2));
+            int expected = 0;
+            while (!deck.isEmpty()) {
+                cards[board.length + 2] = deck.dealCode();
+                if (HandEvaluator.getCategory(HandEvaluator.evaluate(cards, 0, board.length + 3)) > category) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, outs.getOuts());
+            if (board.length == 4) {
+                assertEquals(outs.getNextCardProbability(), outs.getRiverProbability(), 1e-12);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> OutsAnalyzer.analyze(new int[] {0, 1}, new int[] {2, 3}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> OutsAnalyzer.analyze(new int[] {0, 52}, new int[] {2, 3, 4}, new int[0]));
+    }
+}
@@ -327,4 +327,23 @@ public class TestPlayer {
         player.addCard(new Card("Q", "♦"));
         assertEquals("[J of ♠, Q of ♦]", player.toString());
     }
+
+    @Test
+    public void testCommunityCardsAreCopied() {
+        Player player = new Player();
+        player.addCard(new Card("J", "♠"));
+        player.addCard(new Card("Q", "♦"));
+        ArrayList<Card> communityCards = new ArrayList<>();
+        communityCards.add(new Card("5", "♣"));
+        communityCards.add(new Card("2", "♠"));
+        communityCards.add(new Card("A", "♠"));
+        player.playHand(communityCards);
+
+        // Dealing the turn into the same list must not change the last playHand call's cards
+        communityCards.add(new Card("9", "♥"));
+        assertEquals(5, player.getAllCards().size());
+        assertEquals("A of ♠", player.getAllCards().get(4).toString());
+        communityCards.clear();
+        assertEquals(5, player.getCards().size());
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestPreflopEquityTable {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStartingHandClasses() {
+        HashSet<Integer> classes = new HashSet<>();
+        int combos = 0;
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                classes.add(StartingHand.classIndex(a, b));
+            }
+        }
+        for (int classIndex = 0; classIndex < StartingHand.CLASS_COUNT; classIndex++) {
+            combos += StartingHand.comboCount(classIndex);
+            assertEquals(classIndex, StartingHand.classIndex(StartingHand.getName(classIndex)));
+            int[] cards = StartingHand.representative(classIndex);
+            assertEquals(classIndex, StartingHand.classIndex(cards[0], cards[1]));
+        }
+        assertEquals(169, classes.size());
+        assertEquals(1326, combos);
+        assertEquals("AKs", StartingHand.getName(StartingHand.classIndex(Card.encode("A", "♥"), Card.encode("K", "♥"))));
+        assertEquals("T9o", StartingHand.getName(StartingHand.classIndex("9To")));
+    }
+
+    @Test
+    public void testGenerateAndLoad() throws IOException {
+        Path file = tempDir.resolve("preflop.bin");
+        PreflopEquityTable.generate(file, 2, 4000, 1L);
+        assertEquals(8 + 2 * 169 * 2, Files.size(file));
+
+        PreflopEquityTable table = PreflopEquityTable.load(file);
+        assertEquals(2, table.getMaxOpponents());
+        double aces = table.getEquity(StartingHand.classIndex("AA"), 1);
+        assertEquals(85.2, aces, 2.5);
+        assertTrue(table.getEquity(StartingHand.classIndex("AA"), 2) < aces);
+        assertTrue(table.getEquity(StartingHand.classIndex("72o"), 1) < 40);
+        assertEquals(table.getEquity(StartingHand.classIndex("KQs"), 1),
+                table.getEquity(Card.of("K", "♦"), Card.of("Q", "♦"), 1));
+
+        assertThrows(IllegalArgumentException.class, () -> table.getEquity(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.getEquity(StartingHand.CLASS_COUNT, 1));
+
+        // Regenerating replaces the file without touching the mapped table or leaving a temporary file
+        PreflopEquityTable.generate(file, 1, 100, 2L);
+        assertEquals(aces, table.getEquity(StartingHand.classIndex("AA"), 1));
+        assertEquals(1, PreflopEquityTable.load(file).getMaxOpponents());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
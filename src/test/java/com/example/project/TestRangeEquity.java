@@ -0,0 +1,87 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+public class TestRangeEquity {
+
+    private static int code(String rank, String suit) {
+        return Card.encode(rank, suit);
+    }
+
+    @Test
+    public void testParseRanges() {
+        assertEquals(18, HandRange.parse("QQ+").getComboCount());
+        assertEquals(24, HandRange.parse("22-55").getComboCount());
+        assertEquals(4, HandRange.parse("AKs").getComboCount());
+        assertEquals(16, HandRange.parse("AK").getComboCount());
+        assertEquals(48, HandRange.parse("A2s+").getComboCount());
+        assertEquals(36, HandRange.parse("KTo+").getComboCount());
+        assertEquals(16, HandRange.parse("A5s-A2s").getComboCount());
+        assertEquals(6.0, HandRange.parse("50% AJo").getTotalWeight(), 1e-9);
+        assertEquals(6.0, HandRange.parse("50% of AJo").getTotalWeight(), 1e-9);
+        assertEquals(6.0, HandRange.parse("AJo:0.5").getTotalWeight(), 1e-9);
+        assertEquals(18 + 4 + 6.0, HandRange.parse("QQ+, AKs, 50% AJo").getTotalWeight(), 1e-9);
+
+        HandRange combo = HandRange.parse("AhKh");
+        assertEquals(1, combo.getComboCount());
+        assertEquals(1.0, combo.getWeight(HandRange.comboIndex(code("K", "♥"), code("A", "♥"))));
+
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("QQs"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("KAs"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("A5s-K2s"));
+        assertThrows(IllegalArgumentException.class, () -> HandRange.parse("150% AA"));
+    }
+
+    @Test
+    public void testSweepMatchesPairwiseEnumeration() {
+        HandRange hero = HandRange.parse("QQ+, AKs, 50% JTs");
+        HandRange villain = HandRange.parse("TT+, AQo+:0.25, 87s");
+        int[] board = {code("Q", "♥"), code("8", "♥"), code("2", "♣")};
+
+        EquityEnumerator enumerator = new EquityEnumerator();
+        long used = 0;
+        for (int card : board) {
+            used |= 1L << card;
+        }
+        double equity = 0;
+        double weight = 0;
+        for (int h = 0; h < HandRange.COMBO_COUNT; h++) {
+            for (int v = 0; v < HandRange.COMBO_COUNT; v++) {
+                int[] hole = {HandRange.firstCard(h), HandRange.secondCard(h), HandRange.firstCard(v), HandRange.secondCard(v)};
+                long cards = 1L << hole[0] | 1L << hole[1] | 1L << hole[2] | 1L << hole[3];
+                if (hero.getWeight(h) == 0 || villain.getWeight(v) == 0 || Long.bitCount(cards) < 4 || (cards & used) != 0) {
+                    continue;
+                }
+                double w = hero.getWeight(h) * villain.getWeight(v);
+                equity += w * enumerator.enumerate(hole, board, new int[0]).getEquity(0);
+                weight += w;
+            }
+        }
+
+        RangeEquityResult result = new RangeEquity().calculate(hero, villain, board, new int[0], 0, 1);
+        assertTrue(result.isExact());
+        assertEquals(1176, result.getBoards()); // Hole cards are not removed from the deck: boards that hit them drop those matchups
+        assertEquals(equity / weight, result.getEquity(), 1e-9);
+    }
+
+    @Test
+    public void testSampledPreflop() {
+        ArrayList<Card> board = new ArrayList<>();
+        RangeEquityResult result = Game.rangeEquity("AhAs", "KdKc", board);
+        assertFalse(result.isExact());
+        assertEquals(81.3, result.getEquity(), 1.0); // Exact value: 81.26%
+
+        RangeEquityResult ranges = Game.rangeEquity("QQ+, AKs", "22+, AJo+, KQ", board);
+        assertEquals(ranges.getEquity(), Game.rangeEquity("QQ+, AKs", "22+, AJo+, KQ", board).getEquity(), 1e-9);
+        assertTrue(ranges.getEquity() > 55 && ranges.getEquity() < 75);
+
+        RangeEquityResult fewer = Game.rangeEquity("AhAs", "KdKc", board, 20_000, 7);
+        assertEquals(20_000, fewer.getBoards());
+        assertEquals(81.3, fewer.getEquity(), 1.5);
+        assertTrue(fewer.getEquity() != Game.rangeEquity("AhAs", "KdKc", board, 20_000, 8).getEquity());
+    }
+}
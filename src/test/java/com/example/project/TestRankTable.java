@@ -0,0 +1,50 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestRankTable {
+
+    @Test
+    public void testMatchesEvaluator(@TempDir Path dir) throws IOException {
+        assertEquals(49_205, RankTable.getRankEntryCount(7));
+        Path file = dir.resolve("ranks.bin");
+        RankTable table = RankTable.loadOrGenerate(file);
+        Deck deck = new Deck(21L);
+        int[] cards = new int[7];
+        for (int trial = 0; trial < 100_000; trial++) {
+            deck.reset();
+            deck.partialShuffle(7);
+            for (int i = 0; i < 7; i++) {
+                cards[i] = deck.dealCode();
+            }
+            int count = 5 + trial % 3;
+            assertEquals(HandEvaluator.evaluate(cards, 0, count), table.evaluate(cards, 0, count));
+        }
+
+        // The suited cards decide even with a pair of aces beside them
+        int[] hand = {Card.encode("A", "♥"), Card.encode("K", "♥"), Card.encode("Q", "♥"),
+                Card.encode("J", "♥"), Card.encode("10", "♥"), Card.encode("A", "♠"), Card.encode("A", "♦")};
+        assertEquals(HandEvaluator.evaluate(hand, 0, 7), table.evaluate(hand, 0, 7));
+        assertEquals(HandEvaluator.STRAIGHT_FLUSH, HandEvaluator.getCategory(table.evaluate(hand, 0, 7)));
+    }
+
+    @Test
+    public void testRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("ranks.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IllegalArgumentException.class, () -> RankTable.load(file));
+        RankTable.generate(file); // Replaces the file, leaving no temporary file behind
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file), 1000));
+        assertThrows(IllegalArgumentException.class, () -> RankTable.load(file));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestResultStore {
+
+    @Test
+    public void testRowsMatchSimulation(@TempDir Path dir) throws IOException {
+        Simulation simulation = new Simulation(3, 1);
+        SimulationResult counts;
+        try (ResultStoreWriter writer = new ResultStoreWriter(dir, 3)) {
+            counts = simulation.run(4L, 0, 6_000, writer);
+        }
+        // Reopening appends after the existing rows
+        try (ResultStoreWriter writer = new ResultStoreWriter(dir, 3)) {
+            assertEquals(6_000, writer.getRows());
+            counts.add(simulation.run(4L, 6_000, 10_000, writer));
+        }
+        assertThrows(IOException.class, () -> new ResultStoreWriter(dir, 4));
+
+        ResultStore store = ResultStore.open(dir);
+        assertEquals(10_000, store.getRows());
+        assertEquals(3, store.getPlayerCount());
+        long splitPots = 0;
+        long[] categories = new long[HandEvaluator.STRAIGHT_FLUSH + 1];
+        for (int row = 0; row < store.getRows(); row++) {
+            splitPots += Integer.bitCount(store.getWinnerMask(row)) > 1 ? 1 : 0;
+            categories[store.getCategory(row)]++;
+        }
+        assertEquals(counts.getSplitPots(), splitPots);
+        for (int category = 0; category < categories.length; category++) {
+            assertEquals(counts.getWinningCategoryCount(category), categories[category]);
+        }
+
+        // Row r holds table r's cards
+        Deck deck = new Deck(new DealStream(4L));
+        int[] hole = new int[6];
+        int[] board = new int[5];
+        for (int table = 7_000; table < 7_050; table++) {
+            ((DealStream) deck.getRandom()).seek(table);
+            Simulation.dealTable(deck, 3, hole, board);
+            assertEquals(ResultStore.packBoard(board), store.getBoard(table));
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(HandRange.comboIndex(hole[2 * seat], hole[2 * seat + 1]), store.getHoleCombo(table, seat));
+            }
+            assertEquals(board[3], ResultStore.boardCard(store.getBoard(table), 3));
+        }
+    }
+
+    @Test
+    public void testParallelRowsAndMissingColumns(@TempDir Path dir) throws IOException {
+        Path single = dir.resolve("single");
+        Path parallel = dir.resolve("parallel");
+        try (ResultStoreWriter writer = new ResultStoreWriter(single, 2)) {
+            new Simulation(2, 1).run(9L, 100, 40_100, writer);
+        }
+        try (ResultStoreWriter writer = new ResultStoreWriter(parallel, 2)) {
+            new Simulation(2, 3).run(9L, 100, 40_100, writer); // Two rounds of blocks, the last one short
+        }
+        for (String column : new String[] {"hole.col", "board.col", "category.col", "winners.col"}) {
+            assertArrayEquals(Files.readAllBytes(single.resolve(column)), Files.readAllBytes(parallel.resolve(column)));
+        }
+
+        // A store whose creation stopped before every column was written holds no rows yet
+        Files.delete(parallel.resolve("winners.col"));
+        assertEquals(0, ResultStore.open(parallel).getRows());
+        try (ResultStoreWriter writer = new ResultStoreWriter(parallel, 2)) {
+            assertEquals(0, writer.getRows());
+            new Simulation(2, 2).run(9L, 100, 1_100, writer);
+        }
+        assertEquals(1_000, ResultStore.open(parallel).getRows());
+        assertEquals(ResultStore.open(single).getBoard(999), ResultStore.open(parallel).getBoard(999));
+        assertThrows(IOException.class, () -> ResultStore.open(dir.resolve("none")));
+    }
+
+    @Test
+    public void testAggregations(@TempDir Path dir) throws IOException {
+        try (ResultStoreWriter writer = new ResultStoreWriter(dir, 2)) {
+            new Simulation(2, 1).run(8L, 0, 200_000, writer);
+        }
+        ResultStore store = ResultStore.open(dir);
+        long[] dealt = store.countByStartingHand();
+        long total = 0;
+        for (long count : dealt) {
+            total += count;
+        }
+        assertEquals(2 * 200_000L, total);
+        double[] winRates = store.winRateByStartingHand();
+        int aces = StartingHand.classIndex("AA");
+        int kings = StartingHand.classIndex("KK");
+        int sevenTwo = StartingHand.classIndex("72o");
+        // Heads-up equity: AA 85%, KK 82%, 72o 35%
+        assertEquals(0.85, winRates[aces], 0.03);
+        assertTrue(winRates[aces] > winRates[kings]);
+        assertEquals(0.35, winRates[sevenTwo], 0.03);
+
+        long[][] frequencies = store.categoryFrequencyByTexture();
+        long rows = 0;
+        for (int texture = 0; texture < ResultStore.TEXTURE_COUNT; texture++) {
+            for (int category = 0; category <= HandEvaluator.STRAIGHT_FLUSH; category++) {
+                rows += frequencies[texture][category];
+                long count = frequencies[texture][category];
+                if ((texture & ResultStore.SUITED) == 0 && category >= HandEvaluator.FLUSH && category != HandEvaluator.FULL_HOUSE
+                        && category != HandEvaluator.FOUR_OF_A_KIND) {
+                    assertEquals(0, count); // No flush without three suited board cards
+                }
+                if ((texture & ResultStore.PAIRED) == 0 && (category == HandEvaluator.FULL_HOUSE
+                        || category == HandEvaluator.FOUR_OF_A_KIND)) {
+                    assertEquals(0, count);
+                }
+                if ((texture & ResultStore.CONNECTED) == 0 && (category == HandEvaluator.STRAIGHT
+                        || category == HandEvaluator.STRAIGHT_FLUSH)) {
+                    assertEquals(0, count);
+                }
+            }
+        }
+        assertEquals(200_000, rows);
+        assertTrue(frequencies[ResultStore.SUITED | ResultStore.CONNECTED][HandEvaluator.FLUSH] > 0);
+    }
+
+    @Test
+    public void testTornAppendAndPlayers(@TempDir Path dir) throws IOException {
+        ArrayList<Player> seats = new ArrayList<>();
+        ArrayList<Card> community = new ArrayList<>();
+        Deck deck = new Deck(2L);
+        try (ResultStoreWriter writer = new ResultStoreWriter(dir, 2)) {
+            for (int table = 0; table < 100; table++) {
+                deck.reshuffle();
+                seats.clear();
+                community.clear();
+                for (int seat = 0; seat < 2; seat++) {
+                    Player player = new Player();
+                    player.receiveCard(deck.dealCard());
+                    player.receiveCard(deck.dealCard());
+                    seats.add(player);
+                }
+                for (int i = 0; i < 5; i++) {
+                    community.add(deck.dealCard());
+                }
+                writer.append(seats, community, Game.determineWinners(seats, community));
+            }
+        }
+        ShowdownResult last = Game.determineWinners(seats, community);
+        // A crash while appending leaves the category column two rows short
+        try (FileChannel channel = FileChannel.open(dir.resolve("category.col"), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+        }
+        assertEquals(98, ResultStore.open(dir).getRows());
+        try (ResultStoreWriter writer = new ResultStoreWriter(dir, 2)) {
+            assertEquals(98, writer.getRows());
+            writer.append(seats, community, last);
+        }
+        ResultStore store = ResultStore.open(dir);
+        assertEquals(99, store.getRows());
+        assertEquals(last.getWinnerMask(), store.getWinnerMask(98));
+        assertEquals(HandEvaluator.getCategory(last.getBestStrength()), store.getCategory(98));
+    }
+}
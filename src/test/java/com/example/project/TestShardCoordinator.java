@@ -0,0 +1,138 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(120)
+public class TestShardCoordinator {
+    private static final InetAddress LOOPBACK = InetAddress.getLoopbackAddress();
+
+    private static void assertSameCounts(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getTables(), actual.getTables());
+        assertEquals(expected.getSplitPots(), actual.getSplitPots());
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(expected.getSeatWins(seat), actual.getSeatWins(seat));
+            assertEquals(expected.getSeatTies(seat), actual.getSeatTies(seat));
+        }
+        for (int category = 0; category <= HandEvaluator.STRAIGHT_FLUSH; category++) {
+            assertEquals(expected.getCategoryCount(category), actual.getCategoryCount(category));
+            assertEquals(expected.getWinningCategoryCount(category), actual.getWinningCategoryCount(category));
+        }
+    }
+
+    // A worker running on another thread of this JVM
+    private static CompletableFuture<Integer> startWorker(int port) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ShardWorker.work(LOOPBACK.getHostAddress(), port, 2);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    // Connects like a worker and takes the first shard, leaving the socket open
+    private static Socket takeShard(int port) throws IOException {
+        Socket socket = new Socket(LOOPBACK, port);
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(ShardCoordinator.MAGIC);
+        out.writeInt(ShardCoordinator.VERSION);
+        out.flush();
+        assertEquals(ShardCoordinator.SHARD, new DataInputStream(socket.getInputStream()).readByte());
+        return socket;
+    }
+
+    @Test
+    public void testWorkerProcessesMatchSingleRun() throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ArrayList<Process> workers = new ArrayList<>();
+        try (ShardCoordinator<SimulationResult> coordinator = ShardCoordinator.simulation(LOOPBACK, 0, 4, 21L, 30_000, 2_500)) {
+            for (int i = 0; i < 2; i++) {
+                workers.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        ShardWorker.class.getName(), LOOPBACK.getHostAddress(), String.valueOf(coordinator.getPort()), "2")
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+            SimulationResult result = coordinator.awaitResult();
+            for (Process worker : workers) {
+                assertTrue(worker.waitFor(60, TimeUnit.SECONDS));
+                assertEquals(0, worker.exitValue());
+            }
+            assertSameCounts(new Simulation(4, 1).run(30_000, 21L), result);
+        } finally {
+            for (Process worker : workers) {
+                worker.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    public void testLostShardIsPlayedAgain() throws Exception {
+        try (ShardCoordinator<SimulationResult> coordinator = ShardCoordinator.simulation(LOOPBACK, 0, 3, 5L, 10_000, 4_000)) {
+            takeShard(coordinator.getPort()).close(); // A worker that dies
+            CompletableFuture<Integer> shards = startWorker(coordinator.getPort());
+            SimulationResult result = coordinator.awaitResult();
+            assertEquals(3, shards.get());
+            assertSameCounts(new Simulation(3, 2).run(10_000, 5L), result);
+        }
+    }
+
+    @Test
+    public void testHungWorkerTimesOut() throws Exception {
+        try (ShardCoordinator<SimulationResult> coordinator = ShardCoordinator.simulation(LOOPBACK, 0, 2, 6L, 6_000, 3_000)) {
+            coordinator.setWorkerTimeout(500);
+            Socket hung = takeShard(coordinator.getPort()); // Holds its shard open without answering
+            try {
+                CompletableFuture<Integer> shards = startWorker(coordinator.getPort());
+                SimulationResult result = coordinator.awaitResult();
+                assertEquals(2, shards.get());
+                assertSameCounts(new Simulation(2, 1).run(6_000, 6L), result);
+            } finally {
+                hung.close();
+            }
+        }
+    }
+
+    @Test
+    public void testRangeEquityShards() throws Exception {
+        HandRange hero = HandRange.parse("QQ+, AKs, 50% JTs");
+        HandRange villain = HandRange.parse("TT+, AQo+:0.25, 87s");
+        RangeEquity single = new RangeEquity();
+
+        int[] flop = {Card.encode("Q", "♥"), Card.encode("8", "♥"), Card.encode("2", "♣")};
+        try (ShardCoordinator<RangeEquityResult> coordinator = ShardCoordinator.rangeEquity(LOOPBACK, 0, hero, villain,
+                flop, new int[0], 0, 1L, 100)) {
+            CompletableFuture<Integer> first = startWorker(coordinator.getPort());
+            CompletableFuture<Integer> second = startWorker(coordinator.getPort());
+            RangeEquityResult result = coordinator.awaitResult();
+            assertEquals(12, first.get() + second.get());
+            RangeEquityResult expected = single.calculate(hero, villain, flop, new int[0], 0, 1L);
+            assertTrue(result.isExact());
+            assertEquals(expected.getBoards(), result.getBoards());
+            assertEquals(expected.getEquity(), result.getEquity(), 1e-9);
+        }
+
+        int[] dead = {Card.encode("2", "♠")};
+        try (ShardCoordinator<RangeEquityResult> coordinator = ShardCoordinator.rangeEquity(LOOPBACK, 0, hero, villain,
+                new int[0], dead, 5_000, 9L, 700)) {
+            startWorker(coordinator.getPort());
+            RangeEquityResult result = coordinator.awaitResult();
+            RangeEquityResult expected = single.calculate(hero, villain, new int[0], dead, 5_000, 9L);
+            assertFalse(result.isExact());
+            assertEquals(5_000, result.getBoards());
+            assertEquals(expected.getEquity(), result.getEquity(), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestSimulation {
+    @Test
+    public void testCountsAddUp() {
+        SimulationResult result = new Simulation(6, 4).run(100_001, 11L);
+        assertEquals(100_001, result.getTables());
+        long hands = 0;
+        long winningHands = 0;
+        for (int category = 0; category <= HandEvaluator.STRAIGHT_FLUSH; category++) {
+            hands += result.getCategoryCount(category);
+            winningHands += result.getWinningCategoryCount(category);
+        }
+        assertEquals(6 * 100_001L, hands);
+        assertEquals(100_001L, winningHands);
+
+        long outright = 0;
+        for (int seat = 0; seat < 6; seat++) {
+            outright += result.getSeatWins(seat);
+            assertEquals(1.0 / 6, (double) (result.getSeatWins(seat) + result.getSeatTies(seat)) / result.getTables(), 0.02);
+        }
+        assertEquals(result.getTables() - result.getSplitPots(), outright);
+    }
+
+    @Test
+    public void testSevenCardCategoryFrequencies() {
+        SimulationResult result = new Simulation(2, 2).run(200_000, 5L);
+        double hands = 2 * 200_000.0;
+        // Known 7-card frequencies: high card 17.4%, one pair 43.8%, two pair 23.5%
+        assertEquals(0.174, result.getCategoryCount(HandEvaluator.HIGH_CARD) / hands, 0.01);
+        assertEquals(0.438, result.getCategoryCount(HandEvaluator.ONE_PAIR) / hands, 0.01);
+        assertEquals(0.235, result.getCategoryCount(HandEvaluator.TWO_PAIR) / hands, 0.01);
+    }
+
+    @Test
+    public void testSameSeedSameResult() {
+        SimulationResult a = new Simulation(3, 3).run(30_000, 99L);
+        SimulationResult b = new Simulation(3, 3).run(30_000, 99L);
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(a.getSeatWins(seat), b.getSeatWins(seat));
+        }
+        assertTrue(a.getSplitPots() > 0);
+        assertEquals(a.getSplitPots(), b.getSplitPots());
+    }
+
+    private static void assertSameCounts(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getTables(), actual.getTables());
+        assertEquals(expected.getSplitPots(), actual.getSplitPots());
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(expected.getSeatWins(seat), actual.getSeatWins(seat));
+            assertEquals(expected.getSeatTies(seat), actual.getSeatTies(seat));
+        }
+        for (int category = 0; category <= HandEvaluator.STRAIGHT_FLUSH; category++) {
+            assertEquals(expected.getCategoryCount(category), actual.getCategoryCount(category));
+        }
+    }
+
+    @Test
+    public void testResultIndependentOfThreadsAndRanges() {
+        SimulationResult single = new Simulation(4, 1).run(20_000, 42L);
+        assertSameCounts(single, new Simulation(4, 3).run(20_000, 42L));
+        SimulationResult split = new Simulation(4, 2).run(42L, 0, 7_000);
+        split.add(new Simulation(4, 5).run(42L, 7_000, 20_000));
+        assertSameCounts(single, split);
+    }
+
+    @Test
+    public void testResumeFromCheckpoint(@TempDir Path dir) throws IOException {
+        Simulation simulation = new Simulation(3, 2);
+        Path file = dir.resolve("run.ckpt");
+        // Preempted after 10,000 tables
+        simulation.run(new SimulationCheckpoint(3, 8L), 10_000, 4_000, file);
+
+        SimulationCheckpoint checkpoint = SimulationCheckpoint.load(file);
+        assertEquals(10_000, checkpoint.getNextTable());
+        assertEquals(8L, checkpoint.getSeed());
+        SimulationResult resumed = simulation.run(checkpoint, 25_000, 4_000, file);
+        assertSameCounts(simulation.run(25_000, 8L), resumed);
+        assertEquals(25_000, SimulationCheckpoint.load(file).getNextTable());
+    }
+
+    @Test
+    public void testReplayMatchesRun() {
+        for (long trial = 100; trial < 120; trial++) {
+            SimulationResult table = new Simulation(3, 1).run(77L, trial, trial + 1);
+            String replay = Game.replay(77L, trial, 3);
+            assertEquals(replay, Game.replay(77L, trial, 3));
+            assertEquals(table.getSplitPots() == 1, replay.contains("Split pot:"));
+            for (int seat = 0; seat < 3; seat++) {
+                boolean won = table.getSeatWins(seat) + table.getSeatTies(seat) == 1;
+                assertEquals(won, replay.substring(replay.indexOf("Board:")).contains("Seat " + (seat + 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.project;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TestSuitIsomorphism {
+
+    @Test
+    public void testClassCounts() {
+        assertEquals(169, new SuitIsomorphism(2).getSize());
+        assertEquals(1_286_792, new SuitIsomorphism(2, 3).getSize());
+        assertEquals(55_190_538, new SuitIsomorphism(2, 3, 1).getSize());
+        assertEquals(2_428_287_420L, new SuitIsomorphism(2, 3, 1, 1).getSize());
+    }
+
+    @Test
+    public void testPreflopMatchesStartingHands() {
+        SuitIsomorphism preflop = new SuitIsomorphism(2);
+        int[] classOf = new int[169];
+        Arrays.fill(classOf, -1);
+        for (int c1 = 0; c1 < 52; c1++) {
+            for (int c2 = c1 + 1; c2 < 52; c2++) {
+                int index = (int) preflop.index(new int[] {c1, c2});
+                int startingHand = StartingHand.classIndex(c1, c2);
+                if (classOf[index] == -1) {
+                    classOf[index] = startingHand;
+                }
+                assertEquals(classOf[index], startingHand);
+            }
+        }
+        assertEquals(169, Arrays.stream(classOf).distinct().filter(c -> c >= 0).count());
+    }
+
+    @Test
+    public void testFlopIndexIsDense() {
+        SuitIsomorphism flop = new SuitIsomorphism(2, 3);
+        for (long index = 0; index < flop.getSize(); index++) {
+            assertEquals(index, flop.index(flop.unindex(index)));
+        }
+    }
+
+    @Test
+    public void testSuitPermutationsShareIndex() {
+        SuitIsomorphism river = new SuitIsomorphism(2, 3, 1, 1);
+        Random random = new Random(5);
+        for (int trial = 0; trial < 2000; trial++) {
+            Deck deck = new Deck(random.nextLong());
+            int[] cards = new int[7];
+            for (int i = 0; i < cards.length; i++) {
+                cards[i] = deck.dealCode();
+            }
+            int[] suits = {0, 1, 2, 3};
+            for (int i = 3; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = suits[i]; suits[i] = suits[j]; suits[j] = t;
+            }
+            int[] permuted = new int[7];
+            for (int i = 0; i < cards.length; i++) {
+                permuted[i] = Card.rankOf(cards[i]) * 4 + suits[Card.suitOf(cards[i])];
+            }
+            long index = river.index(cards);
+            assertEquals(index, river.index(permuted));
+            assertArrayEquals(river.canonicalize(cards), river.canonicalize(permuted));
+            assertArrayEquals(river.unindex(index), river.canonicalize(cards));
+        }
+    }
+
+    @Test
+    public void testRejectsBadHands() {
+        SuitIsomorphism flop = new SuitIsomorphism(2, 3);
+        assertThrows(IllegalArgumentException.class, () -> flop.index(new int[] {0, 1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> flop.index(new int[] {0, 1, 2, 3, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new SuitIsomorphism(2, 3, 1, 1, 1));
+    }
+}